@@ -0,0 +1,86 @@
+package site.protoa.api.auth_service.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtTokenProvider 서명 키/파서 캐시 전후 비교
+ *
+ * - *PerCall: 캐시 도입 전 방식 (호출마다 secret → 키 변환, 검증마다 파서 생성)
+ * - *Cached: 현재 JwtTokenProvider (키/파서를 한 번만 생성)
+ *
+ * 실행: ./gradlew jmh -Pjmh.includes=JwtTokenProviderBenchmark
+ * gc 프로파일러의 gc.alloc.rate.norm이 연산당 할당 바이트다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtTokenProviderBenchmark {
+
+    private static final String SECRET = "benchmark-secret-which-is-longer-than-32-bytes";
+
+    private JwtTokenProvider provider;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        JwtProperties properties = new JwtProperties();
+        properties.setSecret(SECRET);
+        provider = new JwtTokenProvider(properties, new VerifiedTokenCache(properties, new SimpleMeterRegistry()));
+        accessToken = provider.generateToken("user-1", "session-1");
+    }
+
+    @Benchmark
+    public String signCached() {
+        return provider.generateToken("user-1", "session-1");
+    }
+
+    @Benchmark
+    public String signPerCall() {
+        Date now = new Date();
+        return Jwts.builder()
+                .setSubject("user-1")
+                .claim("type", "access")
+                .claim("sid", "session-1")
+                .setIssuedAt(now)
+                .setExpiration(new Date(now.getTime() + 86400000L))
+                .signWith(perCallKey())
+                .compact();
+    }
+
+    @Benchmark
+    public VerifiedToken verifyCached() {
+        return provider.verify(accessToken, TokenType.ACCESS);
+    }
+
+    @Benchmark
+    public Claims verifyPerCall() {
+        return Jwts.parser()
+                .verifyWith(perCallKey())
+                .build()
+                .parseSignedClaims(accessToken)
+                .getPayload();
+    }
+
+    // 캐시 도입 전 getSecretKey()와 같은 변환 (32바이트로 패딩/자르기 후 HMAC 키 생성)
+    private static SecretKey perCallKey() {
+        byte[] keyBytes = SECRET.getBytes(StandardCharsets.UTF_8);
+        byte[] sized = new byte[32];
+        System.arraycopy(keyBytes, 0, sized, 0, Math.min(keyBytes.length, 32));
+        return Keys.hmacShaKeyFor(sized);
+    }
+}
@@ -0,0 +1,141 @@
+package site.protoa.api.auth_service.token;
+
+import org.flywaydb.core.Flyway;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.testcontainers.containers.PostgreSQLContainer;
+import site.protoa.api.auth_service.jwt.TokenDigest;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Refresh Token 저장: 단일 upsert 문 vs 이전 방식(조회 → 삭제 → 삽입) 비교
+ *
+ * - findDeleteInsert: user-009 이전 saveToken이 보내던 문장 순서 (한 트랜잭션)
+ * - upsert: user-009에서 도입한 upsertBySession과 같은 INSERT ... ON CONFLICT (한 트랜잭션)
+ * 두 경우 모두 미리 채워 둔 세션 행을 교체한다 (로그인 시 같은 기기 재로그인과 같은 경로).
+ *
+ * 실행: ./gradlew jmh -Pjmh.includes=RefreshTokenUpsertBenchmark
+ * -Pjmh.jdbcUrl(/jmh.jdbcUser/jmh.jdbcPassword)를 주면 그 DB를, 없으면 Postgres 컨테이너(Docker 필요)를 쓴다.
+ * 스키마는 Flyway 마이그레이션으로 만든다. (지정한 DB의 refresh_tokens 테이블을 비우므로 전용 DB를 쓸 것)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RefreshTokenUpsertBenchmark {
+
+    private static final int SESSIONS = 1000;
+
+    private PostgreSQLContainer<?> container;
+    private Connection connection;
+    private PreparedStatement find;
+    private PreparedStatement delete;
+    private PreparedStatement insert;
+    private PreparedStatement upsert;
+    private long counter;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        String url = System.getProperty("jmh.jdbcUrl");
+        String user = System.getProperty("jmh.jdbcUser");
+        String password = System.getProperty("jmh.jdbcPassword");
+        if (url == null) {
+            container = new PostgreSQLContainer<>("postgres:16-alpine");
+            container.start();
+            url = container.getJdbcUrl();
+            user = container.getUsername();
+            password = container.getPassword();
+        }
+
+        Flyway.configure().dataSource(url, user, password).load().migrate();
+
+        connection = DriverManager.getConnection(url, user, password);
+        try (PreparedStatement truncate = connection.prepareStatement("TRUNCATE refresh_tokens")) {
+            truncate.executeUpdate();
+        }
+        connection.setAutoCommit(false);
+
+        find = connection.prepareStatement(
+                "SELECT id FROM refresh_tokens WHERE user_id = ? AND session_id = ?");
+        delete = connection.prepareStatement("DELETE FROM refresh_tokens WHERE id = ?");
+        insert = connection.prepareStatement("""
+                INSERT INTO refresh_tokens (token_hash, user_id, session_id, expires_at, created_at, last_used_at)
+                VALUES (?, ?, ?, ?, ?, ?)
+                """);
+        upsert = connection.prepareStatement("""
+                INSERT INTO refresh_tokens (token_hash, user_id, session_id, expires_at, created_at, last_used_at)
+                VALUES (?, ?, ?, ?, ?, ?)
+                ON CONFLICT (user_id, session_id) DO UPDATE
+                SET token_hash = EXCLUDED.token_hash,
+                    expires_at = EXCLUDED.expires_at,
+                    last_used_at = EXCLUDED.last_used_at
+                """);
+
+        for (int i = 0; i < SESSIONS; i++) {
+            bind(upsert, next(), "user-" + i);
+            upsert.executeUpdate();
+        }
+        connection.commit();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        connection.close();
+        if (container != null) {
+            container.stop();
+        }
+    }
+
+    @Benchmark
+    public int findDeleteInsert() throws SQLException {
+        String userId = "user-" + (counter % SESSIONS);
+        find.setString(1, userId);
+        find.setString(2, "default");
+        try (ResultSet existing = find.executeQuery()) {
+            if (existing.next()) {
+                delete.setLong(1, existing.getLong(1));
+                delete.executeUpdate();
+            }
+        }
+        bind(insert, next(), userId);
+        int rows = insert.executeUpdate();
+        connection.commit();
+        return rows;
+    }
+
+    @Benchmark
+    public int upsert() throws SQLException {
+        bind(upsert, next(), "user-" + (counter % SESSIONS));
+        int rows = upsert.executeUpdate();
+        connection.commit();
+        return rows;
+    }
+
+    private String next() {
+        return TokenDigest.sha256Hex(String.valueOf(counter++));
+    }
+
+    private static void bind(PreparedStatement statement, String tokenHash, String userId) throws SQLException {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        statement.setString(1, tokenHash);
+        statement.setString(2, userId);
+        statement.setString(3, "default");
+        statement.setTimestamp(4, Timestamp.valueOf(now.toLocalDateTime().plusDays(7)));
+        statement.setTimestamp(5, now);
+        statement.setTimestamp(6, now);
+    }
+}
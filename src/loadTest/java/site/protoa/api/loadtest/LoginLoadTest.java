@@ -0,0 +1,198 @@
+package site.protoa.api.loadtest;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.PostgreSQLContainer;
+import site.protoa.api.ApiApplication;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 동시 소셜 로그인(카카오 콜백) 부하 테스트: 플랫폼 스레드 vs 가상 스레드
+ *
+ * - 프로바이더: JDK HttpServer 스텁 (토큰/사용자 정보 응답에 -Dstub.latency-ms 만큼 지연, 기본 50ms)
+ * - Redis / Postgres: Testcontainers (Docker 필요)
+ * - 앱: 모드마다 ApiApplication을 새로 띄워 spring.threads.virtual.enabled만 바꾼다.
+ * - 클라이언트: java.net.http, 동시성 N이면 N개의 콜백 요청을 한꺼번에 보낸다.
+ * 결과로 모드/동시성별 p50, p99, 최대 지연, 처리량(req/s), 실패 수를 출력한다.
+ *
+ * 실행: ./gradlew loadTest (-PloadTest.concurrency=1000,5000)
+ * Bulkhead / 프로바이더 커넥션 풀 한도는 동시성보다 크게 올려 스레드 모델 차이만 보이게 한다.
+ * (DB 커넥션 풀은 운영 설정 그대로 두므로 두 모드 모두 같은 DB 병목을 가진다)
+ */
+public class LoginLoadTest {
+
+    private static final long STUB_LATENCY_MILLIS = Long.getLong("stub.latency-ms", 50L);
+    private static final int WARM_UP_REQUESTS = 200;
+
+    private static final AtomicLong USER_IDS = new AtomicLong(1_000_000L);
+
+    public static void main(String[] args) throws Exception {
+        int[] concurrencies = Arrays.stream((args.length > 0 ? args[0] : "1000,5000").split(","))
+                .map(String::trim)
+                .mapToInt(Integer::parseInt)
+                .toArray();
+
+        try (GenericContainer<?> redis = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+                PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine")) {
+            redis.start();
+            postgres.start();
+            HttpServer stub = startStubProvider();
+            try {
+                List<String> results = new ArrayList<>();
+                for (boolean virtual : new boolean[] { false, true }) {
+                    try (ConfigurableApplicationContext app = startApp(virtual, stub, redis, postgres)) {
+                        int port = app.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+                        HttpClient client = HttpClient.newBuilder()
+                                .version(HttpClient.Version.HTTP_1_1)
+                                .followRedirects(HttpClient.Redirect.NEVER)
+                                .connectTimeout(Duration.ofSeconds(30))
+                                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                                .build();
+                        run(client, port, WARM_UP_REQUESTS);
+                        for (int concurrency : concurrencies) {
+                            results.add(format(virtual ? "virtual" : "platform", concurrency,
+                                    run(client, port, concurrency)));
+                        }
+                    }
+                }
+
+                System.out.printf("%n%-9s %11s %8s %9s %9s %9s %10s%n",
+                        "threads", "concurrency", "failed", "p50(ms)", "p99(ms)", "max(ms)", "req/s");
+                results.forEach(System.out::println);
+            } finally {
+                stub.stop(0);
+            }
+        }
+    }
+
+    /**
+     * 카카오 토큰/사용자 정보 스텁 (요청마다 새 사용자 ID를 돌려줘 세션 수 제한에 걸리지 않게 함)
+     */
+    private static HttpServer startStubProvider() throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 4096);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.createContext("/oauth/token", exchange -> respond(exchange,
+                "{\"access_token\":\"stub-" + USER_IDS.incrementAndGet() + "\",\"token_type\":\"bearer\"}"));
+        server.createContext("/v2/user/me", exchange -> respond(exchange,
+                "{\"id\":" + USER_IDS.incrementAndGet() + "}"));
+        server.start();
+        return server;
+    }
+
+    private static void respond(HttpExchange exchange, String body) throws IOException {
+        try (exchange) {
+            exchange.getRequestBody().readAllBytes();
+            Thread.sleep(STUB_LATENCY_MILLIS);
+            byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, bytes.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static ConfigurableApplicationContext startApp(boolean virtual, HttpServer stub,
+            GenericContainer<?> redis, PostgreSQLContainer<?> postgres) throws IOException {
+        String stubUrl = "http://127.0.0.1:" + stub.getAddress().getPort();
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("server.port", 0);
+        properties.put("spring.threads.virtual.enabled", virtual);
+        properties.put("spring.mvc.async.request-timeout", "120s");
+        properties.put("spring.datasource.url", postgres.getJdbcUrl());
+        properties.put("spring.datasource.username", postgres.getUsername());
+        properties.put("spring.datasource.password", postgres.getPassword());
+        properties.put("UPSTASH_REDIS_URL", "redis://" + redis.getHost() + ":" + redis.getMappedPort(6379));
+        properties.put("kakao.rest-api-key", "load-test");
+        properties.put("kakao.auth-base-url", stubUrl);
+        properties.put("kakao.api-base-url", stubUrl);
+        properties.put("provider.http-client.warm-up", false);
+        properties.put("provider.http-client.max-connections", 1000);
+        properties.put("provider.http-client.pending-acquire-max-count", 100_000);
+        properties.put("provider.http-client.pending-acquire-timeout", "60s");
+        properties.put("provider.http-client.response-timeout", "60s");
+        properties.put("resilience4j.bulkhead.configs.default.max-concurrent-calls", 100_000);
+        properties.put("resilience4j.circuitbreaker.configs.default.slow-call-duration-threshold", "120s");
+        properties.put("refresh-token.reaper.enabled", false);
+        properties.put("audit.directory", Files.createTempDirectory("load-test-audit").toString());
+        // application.yaml보다 우선하도록 커맨드라인 인자로 전달
+        String[] args = properties.entrySet().stream()
+                .map(e -> "--" + e.getKey() + "=" + e.getValue())
+                .toArray(String[]::new);
+        return new SpringApplicationBuilder(ApiApplication.class).run(args);
+    }
+
+    /**
+     * 동시 요청을 한꺼번에 보내고 요청별 지연을 측정
+     */
+    private static Result run(HttpClient client, int port, int concurrency) {
+        long[] latencies = new long[concurrency];
+        AtomicLong failed = new AtomicLong();
+        List<CompletableFuture<Void>> requests = new ArrayList<>(concurrency);
+        long startNanos = System.nanoTime();
+        try (ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < concurrency; i++) {
+                int index = i;
+                requests.add(CompletableFuture.runAsync(() -> {
+                    HttpRequest request = HttpRequest.newBuilder(URI.create(
+                                    "http://127.0.0.1:" + port + "/api/auth/kakao/callback?code=load-" + index))
+                            .timeout(Duration.ofSeconds(120))
+                            .GET()
+                            .build();
+                    long requestStart = System.nanoTime();
+                    try {
+                        HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                        if (response.statusCode() / 100 != 3) {
+                            failed.incrementAndGet();
+                        }
+                    } catch (Exception e) {
+                        failed.incrementAndGet();
+                    }
+                    latencies[index] = System.nanoTime() - requestStart;
+                }, senders));
+            }
+            CompletableFuture.allOf(requests.toArray(CompletableFuture[]::new)).join();
+        }
+        long elapsedNanos = System.nanoTime() - startNanos;
+        Arrays.sort(latencies);
+        return new Result(failed.get(), latencies, elapsedNanos);
+    }
+
+    private static String format(String mode, int concurrency, Result result) {
+        return String.format("%-9s %11d %8d %9.1f %9.1f %9.1f %10.1f", mode, concurrency, result.failed(),
+                result.percentileMillis(0.50), result.percentileMillis(0.99), result.percentileMillis(1.0),
+                result.latencies().length / (result.elapsedNanos() / 1e9));
+    }
+
+    private record Result(long failed, long[] latencies, long elapsedNanos) {
+
+        double percentileMillis(double percentile) {
+            int index = (int) Math.ceil(percentile * latencies.length) - 1;
+            return latencies[Math.max(0, index)] / 1e6;
+        }
+    }
+}
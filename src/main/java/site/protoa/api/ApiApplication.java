@@ -1,6 +1,8 @@
 package site.protoa.api;
 
 import io.github.cdimascio.dotenv.Dotenv;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 
@@ -11,6 +13,8 @@ import java.nio.file.Paths;
 @SpringBootApplication
 public class ApiApplication {
 
+	private static final Logger log = LoggerFactory.getLogger(ApiApplication.class);
+
 	public static void main(String[] args) {
 		// .env 파일 자동 로드 (프로젝트 루트에서 찾음)
 		try {
@@ -57,7 +61,7 @@ public class ApiApplication {
 					if (testFile.exists() && testFile.isFile()) {
 						envFile = testFile;
 						rootPath = path;
-						System.out.println("✓ .env 파일 발견: " + testFile.getAbsolutePath());
+						log.info(".env 파일 발견: {}", testFile.getAbsolutePath());
 						break;
 					}
 				} catch (Exception e) {
@@ -86,11 +90,11 @@ public class ApiApplication {
 						}
 					}
 
-					System.out.println("✓ .env 파일 자동 로드 완료 (" + loadedCount + "개 환경 변수 로드됨)");
+					log.info(".env 파일 자동 로드 완료 ({}개 환경 변수 로드됨)", loadedCount);
 				} catch (Exception dotenvException) {
 					// 중복 키 등의 오류 발생 시, 직접 파일을 읽어서 처리
-					System.out.println("⚠️ 경고: dotenv 라이브러리 로드 실패 (중복 키 가능성): " + dotenvException.getMessage());
-					System.out.println("   .env 파일을 직접 읽어서 처리합니다...");
+					log.warn("dotenv 라이브러리 로드 실패 (중복 키 가능성): {}. .env 파일을 직접 읽어서 처리합니다.",
+							dotenvException.getMessage());
 
 					try {
 						java.util.List<String> lines = java.nio.file.Files.readAllLines(envFile.toPath());
@@ -126,27 +130,25 @@ public class ApiApplication {
 
 									// GOOGLE_CLIENT_ID 로드 확인
 									if (key.equals("GOOGLE_CLIENT_ID")) {
-										System.out.println("   ✓ GOOGLE_CLIENT_ID 로드됨: " +
-												(value.length() > 20 ? value.substring(0, 20) + "..." : value));
+										log.info("GOOGLE_CLIENT_ID 로드됨: {}",
+												value.length() > 20 ? value.substring(0, 20) + "..." : value);
 									}
 								}
 							}
 						}
 
-						System.out.println("✓ .env 파일 직접 로드 완료 (" + loadedCount + "개 환경 변수 로드됨)");
+						log.info(".env 파일 직접 로드 완료 ({}개 환경 변수 로드됨)", loadedCount);
 					} catch (Exception fileException) {
-						System.out.println("⚠️ 경고: .env 파일 직접 읽기 실패: " + fileException.getMessage());
+						log.warn(".env 파일 직접 읽기 실패: {}", fileException.getMessage());
 					}
 				}
 			} else {
-				System.out.println("⚠️ 경고: .env 파일을 찾을 수 없습니다. 시스템 환경 변수를 사용합니다.");
-				System.out.println("   현재 작업 디렉토리: " + Paths.get("").toAbsolutePath());
-				System.out.println("   시스템 작업 디렉토리: " + System.getProperty("user.dir"));
+				log.warn(".env 파일을 찾을 수 없습니다. 시스템 환경 변수를 사용합니다. (현재 작업 디렉토리: {}, user.dir: {})",
+						Paths.get("").toAbsolutePath(), System.getProperty("user.dir"));
 			}
 		} catch (Exception e) {
 			// .env 파일이 없거나 로드 실패해도 계속 진행
-			System.out.println("⚠️ 경고: .env 파일 로드 실패: " + e.getMessage());
-			System.out.println("   시스템 환경 변수를 사용합니다.");
+			log.warn(".env 파일 로드 실패: {}. 시스템 환경 변수를 사용합니다.", e.getMessage());
 		}
 
 		SpringApplication.run(ApiApplication.class, args);
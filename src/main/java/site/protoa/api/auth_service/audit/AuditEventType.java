@@ -0,0 +1,33 @@
+package site.protoa.api.auth_service.audit;
+
+/**
+ * 감사 로그 이벤트 종류 (레코드에는 code 1바이트로 저장, 값은 바꾸지 말 것)
+ */
+public enum AuditEventType {
+    LOGIN((byte) 1),
+    LOGIN_FAILED((byte) 2),
+    REFRESH((byte) 3),
+    REFRESH_REUSE((byte) 4), // 회전된 Refresh Token 재사용 감지 → 세션 종료
+    LOGOUT((byte) 5),
+    SESSION_REVOKED((byte) 6),
+    CLIENT_LOG((byte) 7); // 프론트엔드 보고 (/api/log/login)
+
+    private final byte code;
+
+    AuditEventType(byte code) {
+        this.code = code;
+    }
+
+    public byte getCode() {
+        return code;
+    }
+
+    public static AuditEventType fromCode(byte code) {
+        for (AuditEventType type : values()) {
+            if (type.code == code) {
+                return type;
+            }
+        }
+        throw new IllegalArgumentException("알 수 없는 감사 이벤트 코드: " + code);
+    }
+}
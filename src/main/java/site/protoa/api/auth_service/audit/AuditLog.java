@@ -0,0 +1,341 @@
+package site.protoa.api.auth_service.audit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * 인증 감사 로그 (append-only, 세그먼트 파일)
+ * 
+ * 쓰기: record()는 레코드를 큐에 넣고 바로 반환한다. 전용 writer 스레드가 큐를 배치로 비워
+ * 한 번의 FileChannel.write + force로 기록한다 (그룹 커밋: 동시에 들어온 레코드가 fsync 한 번을 공유).
+ * 레코드 형식은 AuditRecordCodec 참고.
+ * 
+ * 세그먼트: {directory}/audit-{시작 epoch millis}.seg. audit.segment-size를 넘으면 새 세그먼트로 전환하고,
+ * 시작 시에는 항상 새 세그먼트를 연다 (이전 실행의 잘린 꼬리 뒤에 이어 쓰지 않음).
+ * 기록 중 IO 오류가 나도 같은 이유로 다음 배치부터 새 세그먼트에 쓴다.
+ * 보존: 다음 세그먼트의 시작 시각이 audit.retention보다 오래된 세그먼트를 삭제한다.
+ * 읽기: read(from, to)는 해당 구간에 걸친 세그먼트만 메모리 매핑해 순서대로 스트리밍한다.
+ */
+@Component
+public class AuditLog {
+
+    private static final Logger log = LoggerFactory.getLogger(AuditLog.class);
+    private static final String SEGMENT_PREFIX = "audit-";
+    private static final String SEGMENT_SUFFIX = ".seg";
+    // 레코드 시각은 큐에 넣을 때 정해지므로, 세그먼트 전환 직후 기록된 레코드는 시작 시각보다 조금 이를 수 있다
+    private static final long SEGMENT_BOUNDARY_SLACK_MILLIS = Duration.ofMinutes(1).toMillis();
+    private static final long STOP_TIMEOUT_MILLIS = TimeUnit.SECONDS.toMillis(5);
+
+    private final AuditLogProperties properties;
+    private final BlockingQueue<AuditRecord> queue;
+    private final Counter writtenCounter;
+    private final Counter droppedCounter;
+    private final Counter failedCounter;
+    private final Timer commitTimer;
+    private final DistributionSummary commitBatchSize;
+
+    private volatile boolean running;
+    private Thread writer;
+    private FileChannel channel;
+    private long segmentStartMillis;
+    private long segmentBytes;
+
+    @Autowired
+    public AuditLog(AuditLogProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, properties.getQueueCapacity()));
+
+        Gauge.builder("audit.queue.size", queue, BlockingQueue::size)
+                .description("기록 대기 중인 감사 로그 레코드 수")
+                .register(meterRegistry);
+        this.writtenCounter = meterRegistry.counter("audit.records", "result", "written");
+        this.droppedCounter = meterRegistry.counter("audit.records", "result", "dropped");
+        this.failedCounter = meterRegistry.counter("audit.records", "result", "failed");
+        this.commitTimer = meterRegistry.timer("audit.commit");
+        this.commitBatchSize = meterRegistry.summary("audit.commit.batch.size");
+    }
+
+    @PostConstruct
+    public void start() throws IOException {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        Files.createDirectories(properties.getDirectory());
+        openSegment();
+        running = true;
+        writer = Thread.ofPlatform().name("audit-log-writer").daemon().start(this::runWriter);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        if (writer == null) {
+            return;
+        }
+        running = false;
+        writer.join(STOP_TIMEOUT_MILLIS); // 남은 큐를 비울 때까지 대기
+        if (writer.isAlive()) {
+            // writer가 아직 채널에 쓰는 중이면 닫기와 경쟁하므로 먼저 멈춤 (남은 레코드는 버림)
+            log.warn("감사 로그 writer가 제때 끝나지 않아 중단합니다 (대기 {}건)", queue.size());
+            writer.interrupt();
+            writer.join(STOP_TIMEOUT_MILLIS);
+            if (writer.isAlive()) {
+                log.warn("감사 로그 writer가 중단되지 않아 세그먼트를 닫지 않고 종료합니다");
+                return;
+            }
+        }
+        closeSegment();
+    }
+
+    /**
+     * 감사 이벤트 기록 (블로킹하지 않음, 큐가 가득 차면 버림)
+     * 
+     * @param type          이벤트 종류
+     * @param provider      프로바이더 (없으면 null)
+     * @param userId        사용자 ID (없으면 null)
+     * @param latencyMillis 처리 시간 (밀리초)
+     * @param detail        부가 정보 (없으면 null)
+     */
+    public void record(AuditEventType type, String provider, String userId, long latencyMillis, String detail) {
+        if (!running) {
+            return;
+        }
+        AuditRecord record = new AuditRecord(Instant.now(), type, nullToEmpty(provider), nullToEmpty(userId),
+                (int) Math.min(Integer.MAX_VALUE, Math.max(0L, latencyMillis)), nullToEmpty(detail));
+        if (!queue.offer(record)) {
+            droppedCounter.increment();
+        }
+    }
+
+    /**
+     * 시간 구간의 레코드 스트리밍 [from, to)
+     * 세그먼트 순서(= 기록 순서)대로 반환하며, 스트림을 닫을 필요는 없다 (세그먼트마다 매핑 후 채널은 바로 닫음).
+     * 
+     * @param from 시작 시각 (포함)
+     * @param to   끝 시각 (제외)
+     * @return 레코드 스트림
+     */
+    public Stream<AuditRecord> read(Instant from, Instant to) {
+        long fromMillis = from.toEpochMilli();
+        long toMillis = to.toEpochMilli();
+        List<Path> segments = listSegments();
+
+        List<Path> candidates = new ArrayList<>();
+        for (int i = 0; i < segments.size(); i++) {
+            long start = segmentStart(segments.get(i));
+            boolean endsBeforeFrom = i + 1 < segments.size()
+                    && segmentStart(segments.get(i + 1)) + SEGMENT_BOUNDARY_SLACK_MILLIS < fromMillis;
+            if (!endsBeforeFrom && start - SEGMENT_BOUNDARY_SLACK_MILLIS < toMillis) {
+                candidates.add(segments.get(i));
+            }
+        }
+
+        return candidates.stream()
+                .flatMap(AuditLog::readSegment)
+                .filter(record -> {
+                    long timestamp = record.timestamp().toEpochMilli();
+                    return timestamp >= fromMillis && timestamp < toMillis;
+                });
+    }
+
+    /**
+     * 보존 기간이 지난 세그먼트 삭제 (현재 쓰는 마지막 세그먼트는 제외)
+     */
+    @Scheduled(fixedDelayString = "${audit.retention-check-interval:PT1H}")
+    public void enforceRetention() {
+        if (!running) {
+            return;
+        }
+        long horizon = Instant.now().minus(properties.getRetention()).toEpochMilli();
+        List<Path> segments = listSegments();
+        for (int i = 0; i + 1 < segments.size(); i++) {
+            // 다음 세그먼트 시작 시각 = 이 세그먼트의 마지막 기록 시각 상한
+            if (segmentStart(segments.get(i + 1)) >= horizon) {
+                break;
+            }
+            try {
+                Files.deleteIfExists(segments.get(i));
+            } catch (IOException e) {
+                log.warn("감사 로그 세그먼트 삭제 실패: {} ({})", segments.get(i), e.getMessage());
+            }
+        }
+    }
+
+    private void runWriter() {
+        int batchSize = Math.max(1, properties.getBatchSize());
+        List<AuditRecord> batch = new ArrayList<>(batchSize);
+        ByteBuffer buffer = ByteBuffer.allocateDirect(batchSize * AuditRecordCodec.MAX_RECORD_BYTES);
+
+        while (running || !queue.isEmpty()) {
+            try {
+                AuditRecord first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                commit(batch, buffer);
+                writtenCounter.increment(batch.size());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (IOException | RuntimeException e) {
+                failedCounter.increment(batch.size());
+                log.warn("감사 로그 {}건 기록 실패: {}", batch.size(), e.getMessage());
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * 그룹 커밋: 배치 전체를 한 번에 쓰고 한 번 동기화
+     */
+    private void commit(List<AuditRecord> batch, ByteBuffer buffer) throws IOException {
+        Timer.Sample sample = Timer.start();
+        buffer.clear();
+        for (AuditRecord record : batch) {
+            AuditRecordCodec.encode(record, buffer);
+        }
+        buffer.flip();
+
+        if (channel == null
+                || (segmentBytes > 0 && segmentBytes + buffer.remaining() > properties.getSegmentSize().toBytes())) {
+            closeSegment();
+            openSegment();
+        }
+
+        int bytes = buffer.remaining();
+        try {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            if (properties.isFsync()) {
+                channel.force(false);
+            }
+        } catch (IOException e) {
+            // 배치 일부만 기록됐을 수 있다. 읽기는 깨진 레코드에서 멈추므로 같은 세그먼트에 이어 쓰지 않고
+            // 다음 배치에서 새 세그먼트를 연다.
+            closeSegment();
+            throw e;
+        }
+        segmentBytes += bytes;
+
+        commitBatchSize.record(batch.size());
+        sample.stop(commitTimer);
+    }
+
+    private void openSegment() throws IOException {
+        // 같은 밀리초에 전환되어도 이름(= 시작 시각)이 겹치지 않도록 증가시킴
+        segmentStartMillis = Math.max(System.currentTimeMillis(), segmentStartMillis + 1);
+        Path path = properties.getDirectory().resolve(segmentName(segmentStartMillis));
+        channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+        segmentBytes = 0;
+    }
+
+    private void closeSegment() {
+        if (channel == null) {
+            return;
+        }
+        try (FileChannel closing = channel) {
+            closing.force(true);
+        } catch (IOException e) {
+            log.warn("감사 로그 세그먼트 닫기 실패: {}", e.getMessage());
+        }
+        channel = null;
+    }
+
+    private List<Path> listSegments() {
+        Path directory = properties.getDirectory();
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files
+                    .filter(path -> {
+                        String name = path.getFileName().toString();
+                        return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX);
+                    })
+                    .sorted() // 이름의 시작 시각이 고정 폭이므로 사전순 = 시간순
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String segmentName(long startMillis) {
+        return String.format("%s%020d%s", SEGMENT_PREFIX, startMillis, SEGMENT_SUFFIX);
+    }
+
+    private static long segmentStart(Path segment) {
+        String name = segment.getFileName().toString();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    private static Stream<AuditRecord> readSegment(Path segment) {
+        MappedByteBuffer mapped;
+        try (FileChannel readChannel = FileChannel.open(segment, StandardOpenOption.READ)) {
+            mapped = readChannel.map(FileChannel.MapMode.READ_ONLY, 0, readChannel.size());
+        } catch (IOException e) {
+            // 보존 정책으로 읽는 도중 삭제된 세그먼트는 건너뜀
+            log.debug("감사 로그 세그먼트 읽기 실패: {} ({})", segment, e.getMessage());
+            return Stream.empty();
+        }
+
+        Iterator<AuditRecord> iterator = new Iterator<>() {
+            private AuditRecord next = AuditRecordCodec.decode(mapped);
+
+            @Override
+            public boolean hasNext() {
+                return next != null;
+            }
+
+            @Override
+            public AuditRecord next() {
+                if (next == null) {
+                    throw new NoSuchElementException();
+                }
+                AuditRecord current = next;
+                next = AuditRecordCodec.decode(mapped); // 쓰는 중인 꼬리/손상 레코드에서 멈춤
+                return current;
+            }
+        };
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator,
+                Spliterator.ORDERED | Spliterator.NONNULL), false);
+    }
+
+    private static String nullToEmpty(String value) {
+        return value != null ? value : "";
+    }
+}
@@ -0,0 +1,25 @@
+package site.protoa.api.auth_service.audit;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * 인증 감사 로그 설정 (audit.*)
+ */
+@Component
+@ConfigurationProperties(prefix = "audit")
+@Data
+public class AuditLogProperties {
+    private boolean enabled = true;
+    private Path directory = Path.of("logs/audit");
+    private DataSize segmentSize = DataSize.ofMegabytes(64); // 이 크기를 넘으면 새 세그먼트로 전환
+    private Duration retention = Duration.ofDays(30); // 이보다 오래된 세그먼트 삭제
+    private int queueCapacity = 65536; // 기록 대기 레코드 수 (가득 차면 버림)
+    private int batchSize = 1024; // 그룹 커밋 1회당 최대 레코드 수
+    private boolean fsync = true; // 그룹 커밋마다 force (디스크 동기화)
+}
@@ -0,0 +1,17 @@
+package site.protoa.api.auth_service.audit;
+
+import java.time.Instant;
+
+/**
+ * 감사 로그 레코드
+ *
+ * @param timestamp     발생 시각
+ * @param type          이벤트 종류
+ * @param provider      로그인 프로바이더 (kakao, naver, google, 알 수 없으면 빈 문자열)
+ * @param userId        사용자 ID (알 수 없으면 빈 문자열)
+ * @param latencyMillis 처리 시간 (밀리초)
+ * @param detail        부가 정보 (프론트엔드 보고 동작 등, 없으면 빈 문자열)
+ */
+public record AuditRecord(Instant timestamp, AuditEventType type, String provider, String userId,
+        int latencyMillis, String detail) {
+}
@@ -0,0 +1,123 @@
+package site.protoa.api.auth_service.audit;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.zip.CRC32C;
+
+/**
+ * 감사 로그 레코드 바이너리 형식 (big-endian)
+ * 
+ * int    length        이후 바이트 수 (CRC 포함)
+ * long   timestamp     epoch millis
+ * byte   type          AuditEventType 코드
+ * int    latency       밀리초
+ * byte   providerLen + UTF-8 bytes   (최대 32바이트)
+ * byte   userIdLen   + UTF-8 bytes   (최대 255바이트)
+ * byte   detailLen   + UTF-8 bytes   (최대 255바이트)
+ * int    crc           timestamp ~ detail 구간의 CRC32C
+ * 
+ * 문자열은 최대 길이를 넘으면 문자 경계에서 잘린다.
+ */
+final class AuditRecordCodec {
+
+    static final int MAX_PROVIDER_BYTES = 32;
+    static final int MAX_FIELD_BYTES = 255;
+    static final int MAX_RECORD_BYTES = 4 + 8 + 1 + 4 + 3 + MAX_PROVIDER_BYTES + 2 * MAX_FIELD_BYTES + 4;
+
+    private AuditRecordCodec() {
+    }
+
+    /**
+     * 레코드를 buffer의 현재 위치에 기록 (buffer에 MAX_RECORD_BYTES 이상 남아 있어야 함)
+     */
+    static void encode(AuditRecord record, ByteBuffer buffer) {
+        int start = buffer.position();
+        buffer.putInt(0); // 길이 자리
+        int bodyStart = buffer.position();
+        buffer.putLong(record.timestamp().toEpochMilli());
+        buffer.put(record.type().getCode());
+        buffer.putInt(record.latencyMillis());
+        putString(buffer, record.provider(), MAX_PROVIDER_BYTES);
+        putString(buffer, record.userId(), MAX_FIELD_BYTES);
+        putString(buffer, record.detail(), MAX_FIELD_BYTES);
+
+        CRC32C crc = new CRC32C();
+        crc.update(buffer.duplicate().position(bodyStart).limit(buffer.position()));
+        buffer.putInt((int) crc.getValue());
+        buffer.putInt(start, buffer.position() - bodyStart);
+    }
+
+    /**
+     * buffer의 현재 위치에서 레코드 하나를 읽음
+     * 
+     * @return 레코드, 또는 남은 바이트가 부족하거나(쓰는 중/잘린 꼬리) CRC가 맞지 않으면 null (위치는 그대로)
+     */
+    static AuditRecord decode(ByteBuffer buffer) {
+        int start = buffer.position();
+        if (buffer.remaining() < 4) {
+            return null;
+        }
+        int length = buffer.getInt(start);
+        if (length <= 4 || length > MAX_RECORD_BYTES || buffer.remaining() < 4 + length) {
+            return null;
+        }
+
+        ByteBuffer body = buffer.duplicate().position(start + 4).limit(start + 4 + length - 4);
+        CRC32C crc = new CRC32C();
+        crc.update(body.duplicate());
+        if ((int) crc.getValue() != buffer.getInt(start + length)) {
+            return null;
+        }
+
+        try {
+            long timestamp = body.getLong();
+            AuditEventType type = AuditEventType.fromCode(body.get());
+            int latency = body.getInt();
+            String provider = getString(body);
+            String userId = getString(body);
+            String detail = getString(body);
+            buffer.position(start + 4 + length);
+            return new AuditRecord(Instant.ofEpochMilli(timestamp), type, provider, userId, latency, detail);
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static void putString(ByteBuffer buffer, String value, int maxBytes) {
+        int lengthPosition = buffer.position();
+        buffer.put((byte) 0);
+        if (value == null || value.isEmpty()) {
+            return;
+        }
+        CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        ByteBuffer target = buffer.slice(buffer.position(), maxBytes);
+        encoder.encode(CharBuffer.wrap(value), target, true); // 넘치면 문자 경계에서 멈춤
+        buffer.put(lengthPosition, (byte) target.position());
+        buffer.position(buffer.position() + target.position());
+    }
+
+    private static String getString(ByteBuffer buffer) {
+        int length = Byte.toUnsignedInt(buffer.get());
+        if (length == 0) {
+            return "";
+        }
+        CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        ByteBuffer bytes = buffer.slice(buffer.position(), length);
+        buffer.position(buffer.position() + length);
+        try {
+            return decoder.decode(bytes).toString();
+        } catch (CharacterCodingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
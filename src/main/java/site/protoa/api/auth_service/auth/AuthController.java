@@ -1,20 +1,30 @@
 package site.protoa.api.auth_service.auth;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import site.protoa.api.auth_service.audit.AuditEventType;
+import site.protoa.api.auth_service.audit.AuditLog;
 import site.protoa.api.auth_service.jwt.JwtTokenProvider;
+import site.protoa.api.auth_service.jwt.TokenDigest;
+import site.protoa.api.auth_service.jwt.TokenType;
+import site.protoa.api.auth_service.jwt.VerifiedToken;
+import site.protoa.api.auth_service.metrics.AuthFlowMetrics;
+import site.protoa.api.auth_service.session.SessionService;
 import site.protoa.api.auth_service.token.AccessTokenService;
 import site.protoa.api.auth_service.token.RefreshTokenService;
+import site.protoa.api.auth_service.token.TokenInvalidationBus;
+import site.protoa.api.auth_service.token.TokenInvalidationEvent;
+import site.protoa.api.auth_service.token.TokenRevocationStore;
 
-import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.ResponseCookie;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 @RestController
@@ -24,19 +34,27 @@ public class AuthController {
     private final JwtTokenProvider jwtTokenProvider;
     private final AccessTokenService accessTokenService;
     private final RefreshTokenService refreshTokenService;
-
-    @Value("${cookie.secure:false}")
-    private boolean cookieSecure;
-
-    @Value("${cookie.same-site:Lax}")
-    private String cookieSameSite;
+    private final TokenRevocationStore tokenRevocationStore;
+    private final TokenInvalidationBus tokenInvalidationBus;
+    private final SessionService sessionService;
+    private final AuditLog auditLog;
+    private final AuthFlowMetrics authFlowMetrics;
+    private final AuthCookies authCookies;
 
     @Autowired
     public AuthController(JwtTokenProvider jwtTokenProvider, AccessTokenService accessTokenService,
-            RefreshTokenService refreshTokenService) {
+            RefreshTokenService refreshTokenService, TokenRevocationStore tokenRevocationStore,
+            TokenInvalidationBus tokenInvalidationBus, SessionService sessionService, AuditLog auditLog,
+            AuthFlowMetrics authFlowMetrics, AuthCookies authCookies) {
         this.jwtTokenProvider = jwtTokenProvider;
         this.accessTokenService = accessTokenService;
         this.refreshTokenService = refreshTokenService;
+        this.tokenRevocationStore = tokenRevocationStore;
+        this.tokenInvalidationBus = tokenInvalidationBus;
+        this.sessionService = sessionService;
+        this.auditLog = auditLog;
+        this.authFlowMetrics = authFlowMetrics;
+        this.authCookies = authCookies;
     }
 
     /**
@@ -50,7 +68,7 @@ public class AuthController {
     public ResponseEntity<?> getCurrentUser(HttpServletRequest request) {
         try {
             // 쿠키에서 토큰 추출
-            String token = extractTokenFromCookie(request);
+            String token = authCookies.read(request, AuthCookies.ACCESS_TOKEN);
 
             if (token == null) {
                 return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
@@ -59,20 +77,20 @@ public class AuthController {
                                 "message", "인증이 필요합니다."));
             }
 
-            // Access Token 검증 (타입 확인 포함)
-            if (!jwtTokenProvider.validateAccessToken(token)) {
+            // Access Token 검증 (타입 확인 포함, 서명 검증 1회)
+            VerifiedToken verified = jwtTokenProvider.verify(token, TokenType.ACCESS);
+            if (!verified.isValid()) {
                 return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                         .body(Map.of(
                                 "error", "Unauthorized",
                                 "message", "유효하지 않은 Access Token입니다."));
             }
 
-            // 토큰에서 사용자 ID 추출
-            String userId = jwtTokenProvider.getSubjectFromToken(token);
+            // 검증 결과에서 사용자 ID 추출
+            String userId = verified.getSubject();
 
-            // Redis에서 Access Token 확인 (저장된 토큰과 일치하는지 확인)
-            String storedToken = accessTokenService.getToken(userId);
-            if (storedToken == null || !storedToken.equals(token)) {
+            // 저장된 토큰과 일치하는지 확인 (jwt.validation-mode=stateless면 필요한 경우에만 Redis 조회)
+            if (!accessTokenService.isActiveToken(verified, token)) {
                 return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                         .body(Map.of(
                                 "error", "Unauthorized",
@@ -99,8 +117,10 @@ public class AuthController {
 
     /**
      * 토큰 갱신 (세션 회전 포함)
-     * Refresh Token으로 새로운 Access Token과 Refresh Token 발급
+     * Refresh Token으로 같은 세션의 새로운 Access Token과 Refresh Token 발급
      * 이전 Refresh Token은 무효화되어 재사용 불가능
+     * 이미 회전된 Refresh Token이 유예 시간 이후 다시 제출되면 탈취로 보고 세션 전체를 종료
+     * 단계별/전체 소요 시간은 auth.refresh.stage 메트릭으로 기록
      * 
      * @param request  HttpServletRequest (쿠키 읽기용)
      * @param response HttpServletResponse (쿠키 설정용)
@@ -109,9 +129,18 @@ public class AuthController {
     @PostMapping("/refresh")
     public ResponseEntity<?> refreshToken(HttpServletRequest request,
             HttpServletResponse response) {
+        long startNanos = System.nanoTime();
+        ResponseEntity<?> result = rotateSession(request, response, startNanos);
+        authFlowMetrics.recordRefresh(AuthFlowMetrics.TOTAL, AuthFlowMetrics.outcome(result.getStatusCode()),
+                startNanos);
+        return result;
+    }
+
+    private ResponseEntity<?> rotateSession(HttpServletRequest request, HttpServletResponse response,
+            long startNanos) {
         try {
             // 쿠키에서 Refresh Token 추출
-            String refreshToken = extractRefreshTokenFromCookie(request);
+            String refreshToken = authCookies.read(request, AuthCookies.REFRESH_TOKEN);
 
             if (refreshToken == null) {
                 return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
@@ -120,66 +149,126 @@ public class AuthController {
                                 "message", "Refresh Token이 필요합니다."));
             }
 
-            // Refresh Token 검증 (타입 확인 포함)
-            if (!jwtTokenProvider.validateRefreshToken(refreshToken)) {
+            // Refresh Token 검증 (타입 확인 포함, 서명 검증 1회)
+            VerifiedToken verified = authFlowMetrics.refreshStage(AuthFlowMetrics.JWT_VERIFY,
+                    () -> jwtTokenProvider.verify(refreshToken, TokenType.REFRESH));
+            if (!verified.isValid()) {
                 return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                         .body(Map.of(
                                 "error", "Unauthorized",
                                 "message", "유효하지 않은 Refresh Token입니다."));
             }
 
-            // DB에서 Refresh Token 확인
-            if (!refreshTokenService.existsToken(refreshToken)) {
+            // 검증 결과에서 사용자 ID / 세션 ID 추출
+            String userId = verified.getSubject();
+            String sessionId = verified.getSessionId();
+
+            // 폐기되었거나 저장된 토큰이 아니면 거부 (폐기 목록은 DB/캐시 조회 없이 확인)
+            String refreshTokenDigest = TokenDigest.sha256Hex(refreshToken);
+            if (tokenRevocationStore.isRevoked(refreshTokenDigest) || !authFlowMetrics.refreshStage(
+                    AuthFlowMetrics.DB_LOOKUP, () -> refreshTokenService.existsToken(refreshToken))) {
+                // 이미 회전된 토큰의 재사용인지 확인
+                Long rotatedAt = accessTokenService.getRotatedAt(refreshToken);
+                if (rotatedAt != null && sessionService.isWithinReuseGrace(rotatedAt)) {
+                    return ResponseEntity.status(HttpStatus.CONFLICT)
+                            .body(Map.of(
+                                    "error", "Conflict",
+                                    "message", "이미 갱신된 Refresh Token입니다."));
+                }
+                if (rotatedAt != null) {
+                    sessionService.revokeSession(userId, sessionId);
+                    auditLog.record(AuditEventType.REFRESH_REUSE, null, userId, elapsedMillis(startNanos), sessionId);
+                    return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                            .body(Map.of(
+                                    "error", "Unauthorized",
+                                    "message", "재사용된 Refresh Token입니다. 세션이 종료되었습니다."));
+                }
                 return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                         .body(Map.of(
                                 "error", "Unauthorized",
                                 "message", "저장된 Refresh Token과 일치하지 않습니다."));
             }
 
-            // Refresh Token에서 사용자 ID 추출
-            String userId = jwtTokenProvider.getSubjectFromToken(refreshToken);
+            // 새로운 Access Token 발급 (같은 세션)
+            long signStartNanos = System.nanoTime();
+            String newAccessToken = jwtTokenProvider.generateToken(userId, sessionId);
 
-            // 세션 회전: 이전 Refresh Token 무효화 (보안 강화)
-            refreshTokenService.deleteToken(refreshToken);
+            // 새로운 Refresh Token 발급 (세션 회전, 같은 토큰 패밀리)
+            String newRefreshToken = jwtTokenProvider.generateRefreshToken(userId, sessionId);
+            authFlowMetrics.recordRefresh(AuthFlowMetrics.JWT_SIGN, AuthFlowMetrics.SUCCESS, signStartNanos);
 
-            // 새로운 Access Token 발급
-            String newAccessToken = jwtTokenProvider.generateToken(userId);
-
-            // 새로운 Refresh Token 발급 (세션 회전)
-            String newRefreshToken = jwtTokenProvider.generateRefreshToken(userId);
-
-            // 새로운 Access Token을 Redis에 저장
+            // 세션 회전: 이전 Refresh Token 회전 기록 + Access Token 교체를 Redis에서 원자적으로 처리
+            // 동시에 들어온 갱신 요청(여러 탭) 중 하나만 성공한다
             long accessTokenExpirationSeconds = jwtTokenProvider.getExpiration() / 1000;
-            accessTokenService.saveToken(userId, newAccessToken, accessTokenExpirationSeconds);
+            long remainingRefreshSeconds = Duration.between(Instant.now(), verified.getExpiresAt()).getSeconds();
+            String previousAccessToken = authCookies.read(request, AuthCookies.ACCESS_TOKEN);
+            VerifiedToken previousAccess = previousAccessToken != null
+                    ? jwtTokenProvider.verify(previousAccessToken, TokenType.ACCESS)
+                    : null;
+            boolean sameSessionAccess = previousAccess != null && previousAccess.isValid()
+                    && userId.equals(previousAccess.getSubject()) && sessionId.equals(previousAccess.getSessionId());
+            boolean rotated = authFlowMetrics.refreshStage(AuthFlowMetrics.REDIS_ROTATE,
+                    () -> accessTokenService.rotateToken(userId, sessionId, refreshToken, previousAccessToken,
+                            newAccessToken, accessTokenExpirationSeconds, remainingRefreshSeconds));
+            if (!rotated) {
+                return ResponseEntity.status(HttpStatus.CONFLICT)
+                        .body(Map.of(
+                                "error", "Conflict",
+                                "message", "이미 갱신된 Refresh Token입니다."));
+            }
 
-            // 새로운 Refresh Token을 DB에 저장
+            // DB의 세션 행이 아직 이전 Refresh Token일 때만 새 토큰으로 교체 (조건부 UPDATE)
+            // 실패하면 Redis 회전(회전 기록 + Access Token 교체)을 되돌려 이전 토큰들로 계속 쓸 수 있게 하고,
+            // 폐기는 전파하지 않는다
             long refreshTokenExpirationSeconds = jwtTokenProvider.getRefreshExpiration() / 1000;
-            refreshTokenService.saveToken(userId, newRefreshToken, refreshTokenExpirationSeconds);
+            boolean saved;
+            try {
+                saved = authFlowMetrics.refreshStage(AuthFlowMetrics.DB_SAVE,
+                        () -> refreshTokenService.rotateToken(userId, sessionId, refreshToken, newRefreshToken,
+                                refreshTokenExpirationSeconds));
+            } catch (RuntimeException e) {
+                long previousAccessSeconds = sameSessionAccess
+                        ? Duration.between(Instant.now(), previousAccess.getExpiresAt()).getSeconds()
+                        : 0L;
+                accessTokenService.undoRotation(userId, sessionId, refreshToken,
+                        sameSessionAccess ? previousAccessToken : null, previousAccessSeconds, newAccessToken);
+                throw e;
+            }
+            if (!saved) {
+                // 캐시에는 있었지만 DB에서는 이미 교체/삭제된 토큰: 재사용으로 보고 세션 종료
+                // (방금 저장한 새 Access Token도 함께 삭제됨)
+                sessionService.revokeSession(userId, sessionId);
+                auditLog.record(AuditEventType.REFRESH_REUSE, null, userId, elapsedMillis(startNanos), sessionId);
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                        .body(Map.of(
+                                "error", "Unauthorized",
+                                "message", "저장된 Refresh Token과 일치하지 않습니다. 세션이 종료되었습니다."));
+            }
+
+            // 회전된 이전 토큰들을 폐기 (Refresh Token + 요청에 실려 온 이전 Access Token, 모든 노드에 전파)
+            List<TokenInvalidationEvent.RevokedToken> revokedTokens = new ArrayList<>();
+            revokedTokens.add(new TokenInvalidationEvent.RevokedToken(
+                    refreshTokenDigest, verified.getExpiresAt().toEpochMilli()));
+            if (sameSessionAccess) {
+                revokedTokens.add(new TokenInvalidationEvent.RevokedToken(
+                        TokenDigest.sha256Hex(previousAccessToken), previousAccess.getExpiresAt().toEpochMilli()));
+            }
+            tokenInvalidationBus.publish(TokenInvalidationEvent.revoke(userId, revokedTokens));
 
             // 새로운 Access Token을 쿠키에 저장
-            ResponseCookie accessTokenCookie = ResponseCookie.from("Authorization", newAccessToken)
-                    .httpOnly(true)
-                    .secure(cookieSecure)
-                    .path("/")
-                    .maxAge(jwtTokenProvider.getExpiration() / 1000)
-                    .sameSite(cookieSameSite.equals("None") ? "None" : cookieSameSite)
-                    .build();
-            response.addHeader(HttpHeaders.SET_COOKIE, accessTokenCookie.toString());
+            authCookies.write(response, AuthCookies.ACCESS_TOKEN, newAccessToken,
+                    jwtTokenProvider.getExpiration() / 1000);
 
             // 새로운 Refresh Token을 쿠키에 저장 (세션 회전)
-            ResponseCookie refreshTokenCookie = ResponseCookie.from("RefreshToken", newRefreshToken)
-                    .httpOnly(true)
-                    .secure(cookieSecure)
-                    .path("/")
-                    .maxAge(jwtTokenProvider.getRefreshExpiration() / 1000)
-                    .sameSite(cookieSameSite.equals("None") ? "None" : cookieSameSite)
-                    .build();
-            response.addHeader(HttpHeaders.SET_COOKIE, refreshTokenCookie.toString());
+            authCookies.write(response, AuthCookies.REFRESH_TOKEN, newRefreshToken,
+                    jwtTokenProvider.getRefreshExpiration() / 1000);
 
             Map<String, Object> responseBody = new HashMap<>();
             responseBody.put("success", true);
             responseBody.put("message", "토큰이 갱신되었습니다.");
 
+            auditLog.record(AuditEventType.REFRESH, null, userId, elapsedMillis(startNanos), sessionId);
+
             return ResponseEntity.ok(responseBody);
 
         } catch (Exception e) {
@@ -192,7 +281,7 @@ public class AuthController {
 
     /**
      * 로그아웃
-     * 쿠키에서 Access Token과 Refresh Token 삭제
+     * 현재 세션의 Access Token과 Refresh Token 삭제 (다른 기기의 세션은 유지)
      * 
      * @param request  HttpServletRequest
      * @param response HttpServletResponse (쿠키 삭제용)
@@ -201,56 +290,61 @@ public class AuthController {
     @PostMapping("/logout")
     public ResponseEntity<Map<String, Object>> logout(HttpServletRequest request,
             HttpServletResponse response) {
+        long startNanos = System.nanoTime();
         try {
             // 쿠키에서 토큰 추출
-            String token = extractTokenFromCookie(request);
-            String refreshToken = extractRefreshTokenFromCookie(request);
+            String token = authCookies.read(request, AuthCookies.ACCESS_TOKEN);
+            String refreshToken = authCookies.read(request, AuthCookies.REFRESH_TOKEN);
+
+            List<TokenInvalidationEvent.RevokedToken> revokedTokens = new ArrayList<>();
+            String revokedUserId = null;
 
             // Redis에서 Access Token 삭제
             if (token != null) {
                 try {
-                    String userId = jwtTokenProvider.getSubjectFromToken(token);
-                    if (userId != null) {
-                        accessTokenService.deleteToken(userId);
+                    VerifiedToken verified = jwtTokenProvider.verify(token, TokenType.ACCESS);
+                    if (verified.isValid() && verified.getSubject() != null) {
+                        revokedUserId = verified.getSubject();
+                        revokedTokens.add(new TokenInvalidationEvent.RevokedToken(
+                                TokenDigest.sha256Hex(token), verified.getExpiresAt().toEpochMilli()));
+                        accessTokenService.deleteToken(verified.getSubject(), verified.getSessionId());
                     }
                 } catch (Exception e) {
-                    // 토큰 파싱 실패 시 무시
+                    // 토큰 삭제 실패 시 무시
                 }
             }
 
-            // DB에서 Refresh Token 삭제
             if (refreshToken != null) {
-                try {
+                VerifiedToken verified = jwtTokenProvider.verify(refreshToken, TokenType.REFRESH);
+                if (verified.isValid()) {
+                    revokedUserId = verified.getSubject();
+                    revokedTokens.add(new TokenInvalidationEvent.RevokedToken(
+                            TokenDigest.sha256Hex(refreshToken), verified.getExpiresAt().toEpochMilli()));
+                }
+            }
+
+            try {
+                // DB에서 Refresh Token 삭제 (실패하면 토큰이 남아 있으므로 로그아웃 실패로 응답)
+                if (refreshToken != null) {
                     refreshTokenService.deleteToken(refreshToken);
-                } catch (Exception e) {
-                    // 토큰 삭제 실패 시 무시
+                }
+            } finally {
+                // 제출된 토큰들을 폐기 (삭제에 실패해도 폐기는 모든 노드에 전파)
+                if (!revokedTokens.isEmpty()) {
+                    tokenInvalidationBus.publish(TokenInvalidationEvent.revoke(revokedUserId, revokedTokens));
                 }
             }
 
-            // Access Token 쿠키 삭제 (ResponseCookie로 SameSite 명시적 설정)
-            ResponseCookie accessTokenCookie = ResponseCookie.from("Authorization", "")
-                    .httpOnly(true)
-                    .secure(cookieSecure)
-                    .path("/")
-                    .maxAge(0) // 즉시 삭제
-                    .sameSite(cookieSameSite.equals("None") ? "None" : cookieSameSite) // Lax, Strict, None
-                    .build();
-            response.addHeader(HttpHeaders.SET_COOKIE, accessTokenCookie.toString());
-
-            // Refresh Token 쿠키 삭제 (ResponseCookie로 SameSite 명시적 설정)
-            ResponseCookie refreshTokenCookie = ResponseCookie.from("RefreshToken", "")
-                    .httpOnly(true)
-                    .secure(cookieSecure)
-                    .path("/")
-                    .maxAge(0) // 즉시 삭제
-                    .sameSite(cookieSameSite.equals("None") ? "None" : cookieSameSite) // Lax, Strict, None
-                    .build();
-            response.addHeader(HttpHeaders.SET_COOKIE, refreshTokenCookie.toString());
+            // Access Token / Refresh Token 쿠키 삭제
+            authCookies.clear(response, AuthCookies.ACCESS_TOKEN);
+            authCookies.clear(response, AuthCookies.REFRESH_TOKEN);
 
             Map<String, Object> responseBody = new HashMap<>();
             responseBody.put("success", true);
             responseBody.put("message", "로그아웃되었습니다.");
 
+            auditLog.record(AuditEventType.LOGOUT, null, revokedUserId, elapsedMillis(startNanos), null);
+
             return ResponseEntity.ok(responseBody);
 
         } catch (Exception e) {
@@ -263,40 +357,8 @@ public class AuthController {
         }
     }
 
-    /**
-     * 쿠키에서 Authorization 토큰 추출
-     * 
-     * @param request HttpServletRequest
-     * @return JWT 토큰 또는 null
-     */
-    private String extractTokenFromCookie(HttpServletRequest request) {
-        Cookie[] cookies = request.getCookies();
-        if (cookies != null) {
-            for (Cookie cookie : cookies) {
-                if ("Authorization".equals(cookie.getName())) {
-                    return cookie.getValue();
-                }
-            }
-        }
-        return null;
-    }
-
-    /**
-     * 쿠키에서 Refresh Token 추출
-     * 
-     * @param request HttpServletRequest
-     * @return Refresh Token 또는 null
-     */
-    private String extractRefreshTokenFromCookie(HttpServletRequest request) {
-        Cookie[] cookies = request.getCookies();
-        if (cookies != null) {
-            for (Cookie cookie : cookies) {
-                if ("RefreshToken".equals(cookie.getName())) {
-                    return cookie.getValue();
-                }
-            }
-        }
-        return null;
+    private static long elapsedMillis(long startNanos) {
+        return (System.nanoTime() - startNanos) / 1_000_000;
     }
 }
 // tokenss
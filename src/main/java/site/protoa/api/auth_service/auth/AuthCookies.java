@@ -0,0 +1,79 @@
+package site.protoa.api.auth_service.auth;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.stereotype.Component;
+
+/**
+ * 인증 쿠키 읽기/쓰기 (Access Token: Authorization, Refresh Token: RefreshToken)
+ * cookie.secure / cookie.same-site 설정을 한 곳에서 적용한다.
+ */
+@Component
+public class AuthCookies {
+
+    public static final String ACCESS_TOKEN = "Authorization";
+    public static final String REFRESH_TOKEN = "RefreshToken";
+
+    private final boolean cookieSecure;
+    private final String cookieSameSite;
+
+    @Autowired
+    public AuthCookies(@Value("${cookie.secure:false}") boolean cookieSecure,
+            @Value("${cookie.same-site:Lax}") String cookieSameSite) {
+        this.cookieSecure = cookieSecure;
+        this.cookieSameSite = cookieSameSite;
+    }
+
+    /**
+     * 요청 쿠키 값 읽기
+     * 
+     * @param request HttpServletRequest
+     * @param name    쿠키 이름
+     * @return 쿠키 값 또는 null
+     */
+    public String read(HttpServletRequest request, String name) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies != null) {
+            for (Cookie cookie : cookies) {
+                if (name.equals(cookie.getName())) {
+                    return cookie.getValue();
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 응답에 쿠키 설정 (ResponseCookie로 SameSite 명시적 설정)
+     * 
+     * @param response      HttpServletResponse
+     * @param name          쿠키 이름
+     * @param value         쿠키 값
+     * @param maxAgeSeconds 유지 시간 (초, 0이면 즉시 삭제)
+     */
+    public void write(HttpServletResponse response, String name, String value, long maxAgeSeconds) {
+        ResponseCookie cookie = ResponseCookie.from(name, value)
+                .httpOnly(true)
+                .secure(cookieSecure)
+                .path("/")
+                .maxAge(maxAgeSeconds)
+                .sameSite(cookieSameSite.equals("None") ? "None" : cookieSameSite) // Lax, Strict, None
+                .build();
+        response.addHeader(HttpHeaders.SET_COOKIE, cookie.toString());
+    }
+
+    /**
+     * 쿠키 삭제
+     * 
+     * @param response HttpServletResponse
+     * @param name     쿠키 이름
+     */
+    public void clear(HttpServletResponse response, String name) {
+        write(response, name, "", 0);
+    }
+}
@@ -0,0 +1,27 @@
+package site.protoa.api.auth_service.config;
+
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.concurrent.Executors;
+
+/**
+ * 리액티브 흐름 안에서 블로킹 호출(Redis/DB 저장)을 실행할 스케줄러
+ * spring.threads.virtual.enabled=true 이면 호출마다 가상 스레드를 사용하고,
+ * 아니면 Reactor의 boundedElastic 풀을 사용한다.
+ */
+@Configuration
+public class BlockingCallConfig {
+
+    @Bean(destroyMethod = "dispose")
+    public Scheduler blockingScheduler(Environment environment) {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            return Schedulers.fromExecutorService(Executors.newVirtualThreadPerTaskExecutor(), "blocking-virtual");
+        }
+        return Schedulers.boundedElastic();
+    }
+}
@@ -0,0 +1,89 @@
+package site.protoa.api.auth_service.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * 시작 시 프로바이더 호스트에 미리 연결해 두는 작업
+ * 이벤트 루프/DNS 리졸버를 초기화하고(HttpClient.warmup), 호스트마다 HEAD 요청을 한 번 보내
+ * DNS 조회와 TLS 핸드셰이크가 끝난 커넥션을 풀에 남겨 둔다. 응답 코드는 무시한다.
+ */
+@Component
+public class ProviderConnectionWarmer {
+
+    private static final Logger log = LoggerFactory.getLogger(ProviderConnectionWarmer.class);
+
+    private final HttpClient providerHttpClient;
+    private final WebClient webClient;
+    private final ProviderHttpClientProperties properties;
+
+    @Value("${kakao.auth-base-url:https://kauth.kakao.com}")
+    private String kakaoAuthBaseUrl;
+
+    @Value("${kakao.api-base-url:https://kapi.kakao.com}")
+    private String kakaoApiBaseUrl;
+
+    @Value("${naver.auth-base-url:https://nid.naver.com}")
+    private String naverAuthBaseUrl;
+
+    @Value("${naver.api-base-url:https://openapi.naver.com}")
+    private String naverApiBaseUrl;
+
+    @Value("${google.token-uri:https://oauth2.googleapis.com/token}")
+    private String googleTokenUri;
+
+    @Value("${google.user-info-uri:https://www.googleapis.com/oauth2/v2/userinfo}")
+    private String googleUserInfoUri;
+
+    @Autowired
+    public ProviderConnectionWarmer(HttpClient providerHttpClient, WebClient webClient,
+            ProviderHttpClientProperties properties) {
+        this.providerHttpClient = providerHttpClient;
+        this.webClient = webClient;
+        this.properties = properties;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!properties.isWarmUp()) {
+            return;
+        }
+
+        // 토큰/사용자 정보 호출이 나가는 호스트만 대상 (인가 URL은 브라우저가 호출)
+        List<String> origins = Stream.of(kakaoAuthBaseUrl, kakaoApiBaseUrl, naverAuthBaseUrl, naverApiBaseUrl,
+                googleTokenUri, googleUserInfoUri)
+                .map(url -> UriComponentsBuilder.fromUriString(url).replacePath(null).replaceQuery(null)
+                        .toUriString())
+                .distinct()
+                .toList();
+
+        providerHttpClient.warmup()
+                .thenMany(Flux.fromIterable(origins)
+                        .flatMap(origin -> webClient.head().uri(origin)
+                                .retrieve()
+                                .toBodilessEntity()
+                                .then(Mono.just(origin))
+                                .onErrorResume(e -> {
+                                    // 4xx/5xx 응답도 커넥션은 맺어진 것이므로 실패로 보지 않는다
+                                    log.debug("프로바이더 연결 예열 응답: {} ({})", origin, e.getMessage());
+                                    return Mono.just(origin);
+                                })))
+                .count()
+                .subscribe(
+                        count -> log.info("프로바이더 연결 예열 완료: {}개 호스트", count),
+                        e -> log.warn("프로바이더 연결 예열 실패: {}", e.getMessage()));
+    }
+}
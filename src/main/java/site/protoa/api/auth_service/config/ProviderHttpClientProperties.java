@@ -0,0 +1,26 @@
+package site.protoa.api.auth_service.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 소셜 로그인 프로바이더 호출용 HTTP 클라이언트 설정 (provider.http-client.*)
+ * 커넥션 풀은 원격 호스트(프로바이더 엔드포인트)마다 따로 만들어지며, 아래 크기는 호스트별 값이다.
+ */
+@Component
+@ConfigurationProperties(prefix = "provider.http-client")
+@Data
+public class ProviderHttpClientProperties {
+    private Duration connectTimeout = Duration.ofSeconds(3);
+    private Duration responseTimeout = Duration.ofSeconds(5);
+    private int maxConnections = 50; // 호스트별 최대 커넥션 수
+    private int pendingAcquireMaxCount = 500; // 커넥션 대기 요청 최대 수 (초과 시 즉시 실패)
+    private Duration pendingAcquireTimeout = Duration.ofSeconds(2);
+    private Duration maxIdleTime = Duration.ofSeconds(50); // 프로바이더 측 keep-alive 종료보다 짧게
+    private Duration maxLifeTime = Duration.ofMinutes(10);
+    private Duration evictInterval = Duration.ofSeconds(30); // 유휴/수명 초과 커넥션 백그라운드 정리 주기
+    private boolean warmUp = true; // 시작 시 프로바이더 호스트에 미리 연결 (DNS + TLS)
+}
@@ -1,15 +1,48 @@
 package site.protoa.api.auth_service.config;
 
+import io.netty.channel.ChannelOption;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
 @Configuration
 public class WebClientConfig {
 
+    /**
+     * 프로바이더 호출 전용 커넥션 풀 (원격 호스트별 풀, keep-alive 재사용)
+     * metrics(true): reactor.netty.connection.provider.* 지표
+     * (active/idle/pending 커넥션 수, 커넥션 획득 대기 시간)를 Micrometer에 등록
+     */
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider providerConnectionProvider(ProviderHttpClientProperties properties) {
+        return ConnectionProvider.builder("oauth-providers")
+                .maxConnections(properties.getMaxConnections())
+                .pendingAcquireMaxCount(properties.getPendingAcquireMaxCount())
+                .pendingAcquireTimeout(properties.getPendingAcquireTimeout())
+                .maxIdleTime(properties.getMaxIdleTime())
+                .maxLifeTime(properties.getMaxLifeTime())
+                .evictInBackground(properties.getEvictInterval())
+                .metrics(true)
+                .build();
+    }
+
+    @Bean
+    public HttpClient providerHttpClient(ConnectionProvider providerConnectionProvider,
+            ProviderHttpClientProperties properties) {
+        return HttpClient.create(providerConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) properties.getConnectTimeout().toMillis())
+                .option(ChannelOption.SO_KEEPALIVE, true)
+                .responseTimeout(properties.getResponseTimeout())
+                .keepAlive(true);
+    }
+
     @Bean
-    public WebClient webClient() {
+    public WebClient webClient(HttpClient providerHttpClient) {
         return WebClient.builder()
+                .clientConnector(new ReactorClientHttpConnector(providerHttpClient))
                 .codecs(configurer -> configurer
                         .defaultCodecs()
                         .maxInMemorySize(2 * 1024 * 1024)) // 2MB
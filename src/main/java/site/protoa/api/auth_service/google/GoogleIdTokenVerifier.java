@@ -0,0 +1,215 @@
+package site.protoa.api.auth_service.google;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.MalformedJwtException;
+import io.jsonwebtoken.security.Jwk;
+import io.jsonwebtoken.security.JwkSet;
+import io.jsonwebtoken.security.Jwks;
+import io.jsonwebtoken.security.PublicJwk;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import site.protoa.api.auth_service.google.dto.GoogleUserInfo;
+
+import java.io.IOException;
+import java.security.PublicKey;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 구글 ID 토큰 로컬 검증기
+ * 토큰 응답의 id_token을 구글 JWKS 공개키로 검증해, userinfo 호출 없이 사용자 정보를 얻는다.
+ * 
+ * - kid별 공개키로 만든 JwtParser를 Caffeine 캐시에 보관 (최대 개수 + 보관 기간 제한)
+ *   JWKS를 받을 때 한 번만 만들고, 검증할 때마다 새로 만들지 않는다.
+ * - google.id-token.jwks-refresh-interval 주기로 JWKS를 다시 받아 새 키를 추가하고,
+ *   회전으로 빠진 키는 보관 기간이 지나면 캐시에서 제거된다.
+ * - 캐시에 없는 kid가 오면 즉시 JWKS를 다시 받는다 (최소 간격 제한, 동시 요청은 한 번만 호출).
+ * - 서명, 만료, aud(client ID), iss를 확인한다.
+ */
+@Component
+public class GoogleIdTokenVerifier {
+
+    private static final Logger log = LoggerFactory.getLogger(GoogleIdTokenVerifier.class);
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final Set<String> ISSUERS = Set.of("https://accounts.google.com", "accounts.google.com");
+
+    private final WebClient webClient;
+    private final Cache<String, JwtParser> parsers;
+    private volatile Mono<Void> pendingRefresh;
+    private volatile long lastRefreshMillis;
+
+    @Value("${google.client-id}")
+    private String googleClientId;
+
+    @Value("${google.id-token.enabled:true}")
+    private boolean enabled;
+
+    @Value("${google.id-token.jwks-uri:https://www.googleapis.com/oauth2/v3/certs}")
+    private String jwksUri;
+
+    @Value("${google.id-token.min-refresh-interval:PT30S}")
+    private Duration minRefreshInterval;
+
+    @Value("${google.id-token.clock-skew:PT30S}")
+    private Duration clockSkew;
+
+    @Autowired
+    public GoogleIdTokenVerifier(WebClient webClient, MeterRegistry meterRegistry,
+            @Value("${google.id-token.max-keys:16}") long maxKeys,
+            @Value("${google.id-token.key-retention:PT24H}") Duration keyRetention) {
+        this.webClient = webClient;
+        this.parsers = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterWrite(keyRetention)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, parsers, "google.jwks");
+    }
+
+    /**
+     * 로컬 검증 사용 여부
+     * 
+     * @return google.id-token.enabled 값
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * ID 토큰 검증 후 사용자 정보 추출
+     * 
+     * @param idToken 구글 토큰 응답의 id_token
+     * @return GoogleUserInfo Mono (검증 실패 시 JwtException 에러)
+     */
+    public Mono<GoogleUserInfo> verify(String idToken) {
+        return Mono.fromCallable(() -> readKeyId(idToken))
+                .flatMap(this::findParser)
+                .map(parser -> toUserInfo(parseClaims(idToken, parser)));
+    }
+
+    /**
+     * JWKS 주기적 갱신 (시작 직후 1회 포함)
+     */
+    @Scheduled(initialDelay = 0, fixedDelayString = "${google.id-token.jwks-refresh-interval:PT1H}")
+    public void scheduledRefresh() {
+        if (!enabled || googleClientId == null || googleClientId.isEmpty()) {
+            return;
+        }
+        refreshKeys().subscribe(null, e -> log.warn("구글 JWKS 갱신 실패: {}", e.getMessage()));
+    }
+
+    private Mono<JwtParser> findParser(String kid) {
+        JwtParser parser = parsers.getIfPresent(kid);
+        if (parser != null) {
+            return Mono.just(parser);
+        }
+        if (System.currentTimeMillis() - lastRefreshMillis < minRefreshInterval.toMillis()) {
+            return Mono.error(new JwtException("알 수 없는 kid: " + kid));
+        }
+        return refreshKeys()
+                .then(Mono.fromCallable(() -> parsers.getIfPresent(kid)))
+                .switchIfEmpty(Mono.error(() -> new JwtException("알 수 없는 kid: " + kid)));
+    }
+
+    /**
+     * JWKS를 받아 캐시에 추가 (진행 중인 갱신이 있으면 그 결과를 공유)
+     */
+    private synchronized Mono<Void> refreshKeys() {
+        if (pendingRefresh == null) {
+            pendingRefresh = webClient.get()
+                    .uri(jwksUri)
+                    .retrieve()
+                    .bodyToMono(String.class)
+                    .map(GoogleIdTokenVerifier::parseKeys)
+                    .doOnNext(loaded -> {
+                        loaded.forEach((kid, key) -> parsers.put(kid, buildParser(key)));
+                        lastRefreshMillis = System.currentTimeMillis();
+                    })
+                    .doFinally(signal -> clearPendingRefresh())
+                    .then()
+                    .cache();
+        }
+        return pendingRefresh;
+    }
+
+    private synchronized void clearPendingRefresh() {
+        pendingRefresh = null;
+    }
+
+    private JwtParser buildParser(PublicKey key) {
+        return Jwts.parser()
+                .verifyWith(key)
+                .requireAudience(googleClientId)
+                .clockSkewSeconds(clockSkew.toSeconds())
+                .build();
+    }
+
+    private static Claims parseClaims(String idToken, JwtParser parser) {
+        Claims claims = parser.parseSignedClaims(idToken).getPayload();
+        if (!ISSUERS.contains(claims.getIssuer())) {
+            throw new JwtException("잘못된 iss: " + claims.getIssuer());
+        }
+        return claims;
+    }
+
+    private static Map<String, PublicKey> parseKeys(String json) {
+        JwkSet jwkSet = Jwks.setParser().build().parse(json);
+        Map<String, PublicKey> loaded = new HashMap<>();
+        for (Jwk<?> jwk : jwkSet.getKeys()) {
+            if (jwk instanceof PublicJwk<?> publicJwk && jwk.getId() != null) {
+                loaded.put(jwk.getId(), publicJwk.toKey());
+            }
+        }
+        return loaded;
+    }
+
+    private static String readKeyId(String idToken) {
+        int dot = idToken.indexOf('.');
+        if (dot <= 0) {
+            throw new MalformedJwtException("ID 토큰 형식이 올바르지 않습니다.");
+        }
+        try {
+            JsonNode kid = OBJECT_MAPPER.readTree(Base64.getUrlDecoder().decode(idToken.substring(0, dot)))
+                    .get("kid");
+            if (kid == null || !kid.isTextual()) {
+                throw new MalformedJwtException("ID 토큰 헤더에 kid가 없습니다.");
+            }
+            return kid.asText();
+        } catch (IOException | IllegalArgumentException e) {
+            throw new MalformedJwtException("ID 토큰 헤더를 읽을 수 없습니다.", e);
+        }
+    }
+
+    private static GoogleUserInfo toUserInfo(Claims claims) {
+        Object emailVerified = claims.get("email_verified");
+        return GoogleUserInfo.builder()
+                .id(claims.getSubject())
+                .email(claims.get("email", String.class))
+                .verifiedEmail(emailVerified != null ? Boolean.valueOf(emailVerified.toString()) : null)
+                .name(claims.get("name", String.class))
+                .givenName(claims.get("given_name", String.class))
+                .familyName(claims.get("family_name", String.class))
+                .picture(claims.get("picture", String.class))
+                .locale(claims.get("locale", String.class))
+                .build();
+    }
+}
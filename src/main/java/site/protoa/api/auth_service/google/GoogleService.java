@@ -1,5 +1,8 @@
 package site.protoa.api.auth_service.google;
 
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpHeaders;
@@ -7,8 +10,10 @@ import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Mono;
 import site.protoa.api.auth_service.google.dto.GoogleTokenResponse;
 import site.protoa.api.auth_service.google.dto.GoogleUserInfo;
+import site.protoa.api.auth_service.oauth.OAuthProvider;
 
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
@@ -17,9 +22,12 @@ import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
-public class GoogleService {
+public class GoogleService implements OAuthProvider<GoogleTokenResponse> {
+
+    private static final Logger log = LoggerFactory.getLogger(GoogleService.class);
 
     private final WebClient webClient;
+    private final GoogleIdTokenVerifier googleIdTokenVerifier;
 
     @Value("${google.client-id}")
     private String googleClientId;
@@ -30,25 +38,47 @@ public class GoogleService {
     @Value("${google.redirect-uri}")
     private String googleRedirectUri;
 
+    // 부하 테스트 등에서 스텁 서버로 바꿀 수 있도록 설정으로 분리
+    @Value("${google.auth-uri:https://accounts.google.com/o/oauth2/v2/auth}")
+    private String googleAuthUri;
+
+    @Value("${google.token-uri:https://oauth2.googleapis.com/token}")
+    private String googleTokenUri;
+
+    @Value("${google.user-info-uri:https://www.googleapis.com/oauth2/v2/userinfo}")
+    private String googleUserInfoUri;
+
     @Autowired
-    public GoogleService(WebClient webClient) {
+    public GoogleService(WebClient webClient, GoogleIdTokenVerifier googleIdTokenVerifier) {
         this.webClient = webClient;
-        
-        // 환경 변수 검증
+        this.googleIdTokenVerifier = googleIdTokenVerifier;
+    }
+
+    // 환경 변수 검증 (@Value 필드는 생성자 이후에 주입되므로 주입이 끝난 뒤 확인)
+    @PostConstruct
+    void checkConfiguration() {
         if (googleClientId == null || googleClientId.isEmpty()) {
-            System.err.println("\n" + "=".repeat(60));
-            System.err.println("⚠️  경고: GOOGLE_CLIENT_ID가 설정되지 않았습니다!");
-            System.err.println("   .env 파일에 GOOGLE_CLIENT_ID를 설정하세요.");
-            System.err.println("   예: GOOGLE_CLIENT_ID=your-client-id.apps.googleusercontent.com");
-            System.err.println("=".repeat(60) + "\n");
+            log.warn("GOOGLE_CLIENT_ID가 설정되지 않았습니다. .env 파일에 GOOGLE_CLIENT_ID를 설정하세요. "
+                    + "(예: GOOGLE_CLIENT_ID=your-client-id.apps.googleusercontent.com)");
         }
     }
 
+    @Override
+    public String getName() {
+        return "google";
+    }
+
+    @Override
+    public String getDisplayName() {
+        return "구글";
+    }
+
     /**
      * 구글 인가 URL 생성
      * 
      * @return 구글 인가 URL
      */
+    @Override
     public String getAuthorizationUrl() {
         if (googleClientId == null || googleClientId.isEmpty()) {
             throw new IllegalStateException(
@@ -57,7 +87,7 @@ public class GoogleService {
             );
         }
         
-        return UriComponentsBuilder.fromUriString("https://accounts.google.com/o/oauth2/v2/auth")
+        return UriComponentsBuilder.fromUriString(googleAuthUri)
                 .queryParam("client_id", googleClientId)
                 .queryParam("redirect_uri", googleRedirectUri)
                 .queryParam("response_type", "code")
@@ -71,9 +101,9 @@ public class GoogleService {
      * 인가 코드로 액세스 토큰 요청
      * 
      * @param code 인가 코드
-     * @return GoogleTokenResponse
+     * @return GoogleTokenResponse Mono (구독 시 요청, 호출 스레드를 블로킹하지 않음)
      */
-    public GoogleTokenResponse getAccessToken(String code) {
+    public Mono<GoogleTokenResponse> getAccessToken(String code) {
         Map<String, String> formData = new HashMap<>();
         formData.put("code", code);
         formData.put("client_id", googleClientId);
@@ -87,26 +117,57 @@ public class GoogleService {
                 .collect(Collectors.joining("&"));
 
         return webClient.post()
-                .uri("https://oauth2.googleapis.com/token")
+                .uri(googleTokenUri)
                 .contentType(MediaType.APPLICATION_FORM_URLENCODED)
                 .bodyValue(bodyString)
                 .retrieve()
-                .bodyToMono(GoogleTokenResponse.class)
-                .block();
+                .bodyToMono(GoogleTokenResponse.class);
     }
 
     /**
      * 액세스 토큰으로 사용자 정보 요청
      * 
      * @param accessToken 액세스 토큰
-     * @return GoogleUserInfo
+     * @return GoogleUserInfo Mono (구독 시 요청, 호출 스레드를 블로킹하지 않음)
      */
-    public GoogleUserInfo getUserInfo(String accessToken) {
+    public Mono<GoogleUserInfo> getUserInfo(String accessToken) {
         return webClient.get()
-                .uri("https://www.googleapis.com/oauth2/v2/userinfo")
+                .uri(googleUserInfoUri)
                 .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
                 .retrieve()
-                .bodyToMono(GoogleUserInfo.class)
-                .block();
+                .bodyToMono(GoogleUserInfo.class);
+    }
+
+    /**
+     * 토큰 응답으로 사용자 정보 확인
+     * id_token이 있으면 로컬에서 서명을 검증해 사용자 정보를 얻고 (외부 호출 없음),
+     * id_token이 없거나 검증에 실패하면 userinfo API로 조회한다.
+     * 
+     * @param tokenResponse 토큰 응답
+     * @return GoogleUserInfo Mono
+     */
+    public Mono<GoogleUserInfo> resolveUserInfo(GoogleTokenResponse tokenResponse) {
+        if (!googleIdTokenVerifier.isEnabled() || tokenResponse.getIdToken() == null) {
+            return getUserInfo(tokenResponse.getAccessToken());
+        }
+        return googleIdTokenVerifier.verify(tokenResponse.getIdToken())
+                .onErrorResume(e -> {
+                    log.warn("ID 토큰 검증 실패, userinfo API로 조회: {}", e.getMessage());
+                    return getUserInfo(tokenResponse.getAccessToken());
+                });
+    }
+
+    @Override
+    public Mono<GoogleTokenResponse> exchangeCode(String code, String state) {
+        return getAccessToken(code)
+                .filter(tokenResponse -> tokenResponse.getAccessToken() != null);
+    }
+
+    @Override
+    public Mono<String> fetchUserId(GoogleTokenResponse token) {
+        // ID 토큰 로컬 검증 (실패 시 userinfo API)
+        return resolveUserInfo(token)
+                .filter(userInfo -> userInfo.getId() != null)
+                .map(GoogleUserInfo::getId);
     }
-}
\ No newline at end of file
+}
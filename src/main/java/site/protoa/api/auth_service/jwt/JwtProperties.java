@@ -4,6 +4,8 @@ import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+
 @Component
 @ConfigurationProperties(prefix = "jwt")
 @Data
@@ -11,4 +13,27 @@ public class JwtProperties {
     private String secret;
     private Long expiration = 86400000L; // 기본 24시간
     private Long refreshExpiration = 604800000L; // 기본 7일
+    private ValidationMode validationMode = ValidationMode.REDIS;
+    private Cache cache = new Cache();
+
+    /**
+     * Access Token 검증 방식 (jwt.validation-mode)
+     * REDIS: 매 요청마다 Redis에 저장된 토큰과 비교
+     * STATELESS: 서명 + 만료 + 로컬 폐기 기록만 확인하고,
+     * 마지막 폐기 시점 이전에 발급된 토큰만 Redis로 확인
+     */
+    public enum ValidationMode {
+        REDIS,
+        STATELESS
+    }
+
+    /**
+     * 검증된 토큰 캐시 설정 (jwt.cache.*)
+     */
+    @Data
+    public static class Cache {
+        private boolean enabled = false; // 기본 비활성화
+        private long maxSize = 10000L; // 최대 엔트리 수
+        private Duration maxTtl = Duration.ofMinutes(5); // 토큰 exp보다 길게 유지되지 않음
+    }
 }
@@ -1,41 +1,64 @@
 package site.protoa.api.auth_service.jwt;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.util.Date;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
 
 @Component
 public class JwtTokenProvider {
 
     private final JwtProperties jwtProperties;
+    private final VerifiedTokenCache verifiedTokenCache;
+
+    // 서명 키와 파서는 secret이 바뀔 때만 다시 만든다 (요청마다 생성하지 않음)
+    private final AtomicReference<SigningMaterial> signingMaterial = new AtomicReference<>();
 
     @Autowired
-    public JwtTokenProvider(JwtProperties jwtProperties) {
+    public JwtTokenProvider(JwtProperties jwtProperties, VerifiedTokenCache verifiedTokenCache) {
         this.jwtProperties = jwtProperties;
+        this.verifiedTokenCache = verifiedTokenCache;
+    }
+
+    /**
+     * 새 세션 ID 생성 (로그인마다 하나, 토큰 회전 시에는 유지)
+     * 
+     * @return 세션 ID
+     */
+    public String newSessionId() {
+        return UUID.randomUUID().toString();
     }
 
     /**
      * Access Token 생성
      * 
-     * @param subject 사용자 식별자 (예: kakaoId)
+     * @param subject   사용자 식별자 (예: kakaoId)
+     * @param sessionId 세션 ID (sid 클레임)
      * @return Access Token 문자열
      */
-    public String generateToken(String subject) {
+    public String generateToken(String subject, String sessionId) {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + jwtProperties.getExpiration());
 
-        SecretKey key = getSecretKey();
+        SecretKey key = getSigningMaterial().key();
 
         return Jwts.builder()
                 .setSubject(subject)
                 .claim("type", "access") // 토큰 타입 명시 (보안 강화)
+                .claim("sid", sessionId) // 세션 ID - 기기별 세션 구분
                 .setIssuedAt(now)
                 .setExpiration(expiryDate)
                 .signWith(key)
@@ -70,6 +93,65 @@ public class JwtTokenProvider {
         }
     }
 
+    /**
+     * JWT 토큰 검증 (서명/만료/타입을 한 번의 파싱으로 확인)
+     * 요청당 이 메서드를 한 번만 호출하고, 필요한 값은 결과 객체에서 읽는다.
+     * jwt.cache.enabled가 켜져 있으면 이미 검증된 토큰은 캐시에서 바로 반환한다.
+     * 
+     * @param token        JWT 토큰
+     * @param expectedType 기대하는 토큰 타입
+     * @return VerifiedToken (실패 시 실패 사유 포함)
+     */
+    public VerifiedToken verify(String token, TokenType expectedType) {
+        if (token == null || token.isBlank()) {
+            return VerifiedToken.invalid(VerifiedToken.FailureReason.MISSING);
+        }
+
+        String digest = null;
+        if (verifiedTokenCache.isEnabled()) {
+            digest = TokenDigest.sha256Hex(token);
+            VerifiedToken cached = verifiedTokenCache.get(digest);
+            if (cached != null) {
+                return (expectedType == null || cached.getType() == expectedType)
+                        ? cached
+                        : VerifiedToken.invalid(VerifiedToken.FailureReason.WRONG_TYPE);
+            }
+        }
+
+        Claims claims;
+        String typeClaim;
+        try {
+            claims = getClaimsFromToken(token);
+            typeClaim = claims.get("type", String.class);
+        } catch (ExpiredJwtException e) {
+            return VerifiedToken.invalid(VerifiedToken.FailureReason.EXPIRED);
+        } catch (SignatureException e) {
+            return VerifiedToken.invalid(VerifiedToken.FailureReason.INVALID_SIGNATURE);
+        } catch (MalformedJwtException | IllegalArgumentException e) {
+            return VerifiedToken.invalid(VerifiedToken.FailureReason.MALFORMED);
+        } catch (JwtException e) {
+            return VerifiedToken.invalid(VerifiedToken.FailureReason.UNSUPPORTED);
+        }
+
+        TokenType type = TokenType.fromClaimValue(typeClaim);
+        if (type == null || (expectedType != null && type != expectedType)) {
+            return VerifiedToken.invalid(VerifiedToken.FailureReason.WRONG_TYPE);
+        }
+
+        VerifiedToken verified = VerifiedToken.valid(
+                claims.getSubject(),
+                type,
+                claims.get("jti", String.class),
+                claims.get("sid", String.class),
+                toInstant(claims.getIssuedAt()),
+                toInstant(claims.getExpiration()));
+
+        if (digest != null) {
+            verifiedTokenCache.put(digest, verified);
+        }
+        return verified;
+    }
+
     /**
      * Access Token 유효성 검증
      * 토큰 타입이 "access"인지 확인
@@ -78,13 +160,7 @@ public class JwtTokenProvider {
      * @return 유효 여부
      */
     public boolean validateAccessToken(String token) {
-        try {
-            Claims claims = getClaimsFromToken(token);
-            String tokenType = claims.get("type", String.class);
-            return "access".equals(tokenType);
-        } catch (Exception e) {
-            return false;
-        }
+        return verify(token, TokenType.ACCESS).isValid();
     }
 
     /**
@@ -95,13 +171,7 @@ public class JwtTokenProvider {
      * @return 유효 여부
      */
     public boolean validateRefreshToken(String token) {
-        try {
-            Claims claims = getClaimsFromToken(token);
-            String tokenType = claims.get("type", String.class);
-            return "refresh".equals(tokenType);
-        } catch (Exception e) {
-            return false;
-        }
+        return verify(token, TokenType.REFRESH).isValid();
     }
 
     /**
@@ -111,12 +181,8 @@ public class JwtTokenProvider {
      * @return 토큰 타입 ("access" 또는 "refresh")
      */
     public String getTokenType(String token) {
-        try {
-            Claims claims = getClaimsFromToken(token);
-            return claims.get("type", String.class);
-        } catch (Exception e) {
-            return null;
-        }
+        VerifiedToken verified = verify(token, null);
+        return verified.isValid() ? verified.getType().getClaimValue() : null;
     }
 
     /**
@@ -126,21 +192,48 @@ public class JwtTokenProvider {
      * @return Claims 객체
      */
     private Claims getClaimsFromToken(String token) {
-        SecretKey key = getSecretKey();
-        return Jwts.parser()
-                .verifyWith(key)
-                .build()
+        return getSigningMaterial().parser()
                 .parseSignedClaims(token)
                 .getPayload();
     }
 
+    /**
+     * 캐시된 서명 키/파서 조회
+     * jwt.secret 값이 바뀐 경우에만 새로 생성한다.
+     * 동시에 여러 스레드가 재생성해도 결과가 동일하므로 마지막 값을 그대로 사용한다.
+     * 
+     * @return SigningMaterial (불변 객체)
+     */
+    private SigningMaterial getSigningMaterial() {
+        String secret = jwtProperties.getSecret();
+        SigningMaterial current = signingMaterial.get();
+        if (current != null && current.secret().equals(secret)) {
+            return current;
+        }
+
+        SecretKey key = createSecretKey(secret);
+        SigningMaterial rebuilt = new SigningMaterial(secret, key, Jwts.parser().verifyWith(key).build());
+        signingMaterial.set(rebuilt);
+
+        // 키가 바뀌었으면 이전 키로 검증된 결과는 더 이상 신뢰할 수 없음
+        if (current != null) {
+            verifiedTokenCache.invalidateAll();
+        }
+        return rebuilt;
+    }
+
+    private static Instant toInstant(Date date) {
+        return date != null ? date.toInstant() : null;
+    }
+
     /**
      * Secret Key 생성 (32바이트 이상 필요)
      * 
+     * @param secret jwt.secret 값
      * @return SecretKey 객체
      */
-    private SecretKey getSecretKey() {
-        byte[] keyBytes = jwtProperties.getSecret().getBytes(StandardCharsets.UTF_8);
+    private static SecretKey createSecretKey(String secret) {
+        byte[] keyBytes = secret.getBytes(StandardCharsets.UTF_8);
 
         // 최소 32바이트 필요
         if (keyBytes.length < 32) {
@@ -160,19 +253,21 @@ public class JwtTokenProvider {
     /**
      * Refresh Token 생성
      * 
-     * @param subject 사용자 식별자 (예: kakaoId)
+     * @param subject   사용자 식별자 (예: kakaoId)
+     * @param sessionId 세션 ID (sid 클레임, 회전해도 같은 값을 유지하는 토큰 패밀리)
      * @return Refresh Token 문자열
      */
-    public String generateRefreshToken(String subject) {
+    public String generateRefreshToken(String subject, String sessionId) {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + jwtProperties.getRefreshExpiration());
 
-        SecretKey key = getSecretKey();
+        SecretKey key = getSigningMaterial().key();
 
         return Jwts.builder()
                 .setSubject(subject)
                 .claim("type", "refresh") // 토큰 타입 명시 (보안 강화)
                 .claim("jti", UUID.randomUUID().toString()) // JWT ID - 토큰 고유 식별자 (보안 강화)
+                .claim("sid", sessionId) // 세션 ID - 토큰 패밀리 (재사용 탐지)
                 .setIssuedAt(now)
                 .setExpiration(expiryDate)
                 .signWith(key)
@@ -186,12 +281,8 @@ public class JwtTokenProvider {
      * @return JTI 또는 null
      */
     public String getJtiFromToken(String token) {
-        try {
-            Claims claims = getClaimsFromToken(token);
-            return claims.get("jti", String.class);
-        } catch (Exception e) {
-            return null;
-        }
+        VerifiedToken verified = verify(token, null);
+        return verified.isValid() ? verified.getJti() : null;
     }
 
     /**
@@ -211,4 +302,10 @@ public class JwtTokenProvider {
     public Long getRefreshExpiration() {
         return jwtProperties.getRefreshExpiration();
     }
+
+    /**
+     * secret으로부터 만든 서명 키와 검증용 파서 (둘 다 불변, 스레드 안전)
+     */
+    private record SigningMaterial(String secret, SecretKey key, JwtParser parser) {
+    }
 }
@@ -0,0 +1,32 @@
+package site.protoa.api.auth_service.jwt;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 토큰 다이제스트 유틸리티
+ * 원문 토큰 대신 SHA-256 해시(64자 hex)를 캐시/인덱스 키로 사용한다.
+ */
+public final class TokenDigest {
+
+    private TokenDigest() {
+    }
+
+    /**
+     * 토큰의 SHA-256 hex 다이제스트 계산
+     * 
+     * @param token 토큰 원문
+     * @return 64자 소문자 hex 문자열
+     */
+    public static String sha256Hex(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            // 모든 JVM은 SHA-256을 지원해야 함
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package site.protoa.api.auth_service.jwt;
+
+/**
+ * JWT "type" 클레임 값
+ */
+public enum TokenType {
+    ACCESS("access"),
+    REFRESH("refresh");
+
+    private final String claimValue;
+
+    TokenType(String claimValue) {
+        this.claimValue = claimValue;
+    }
+
+    /**
+     * 토큰에 기록되는 클레임 값
+     * 
+     * @return "access" 또는 "refresh"
+     */
+    public String getClaimValue() {
+        return claimValue;
+    }
+
+    /**
+     * 클레임 값으로 토큰 타입 조회
+     * 
+     * @param claimValue "type" 클레임 값
+     * @return TokenType 또는 null
+     */
+    public static TokenType fromClaimValue(String claimValue) {
+        for (TokenType type : values()) {
+            if (type.claimValue.equals(claimValue)) {
+                return type;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,105 @@
+package site.protoa.api.auth_service.jwt;
+
+import java.time.Instant;
+
+/**
+ * JWT 검증 결과 (불변 객체)
+ * 서명 검증은 JwtTokenProvider.verify에서 한 번만 수행하고,
+ * 이후 필요한 값(subject, type, jti, sid, iat, exp)은 이 객체에서 읽는다.
+ */
+public final class VerifiedToken {
+
+    /**
+     * sid 클레임이 없는 (세션 도입 이전에 발급된) 토큰이 속하는 세션 ID
+     */
+    public static final String DEFAULT_SESSION_ID = "default";
+
+    /**
+     * 검증 실패 사유
+     */
+    public enum FailureReason {
+        MISSING, // 토큰 없음
+        MALFORMED, // 형식 오류
+        INVALID_SIGNATURE, // 서명 불일치
+        EXPIRED, // 만료됨
+        WRONG_TYPE, // 기대한 토큰 타입이 아님
+        UNSUPPORTED // 그 밖의 검증 실패
+    }
+
+    private final String subject;
+    private final TokenType type;
+    private final String jti;
+    private final String sessionId;
+    private final Instant issuedAt;
+    private final Instant expiresAt;
+    private final FailureReason failureReason;
+
+    private VerifiedToken(String subject, TokenType type, String jti, String sessionId, Instant issuedAt,
+            Instant expiresAt, FailureReason failureReason) {
+        this.subject = subject;
+        this.type = type;
+        this.jti = jti;
+        this.sessionId = sessionId;
+        this.issuedAt = issuedAt;
+        this.expiresAt = expiresAt;
+        this.failureReason = failureReason;
+    }
+
+    /**
+     * 검증 성공 결과 생성
+     */
+    public static VerifiedToken valid(String subject, TokenType type, String jti, String sessionId,
+            Instant issuedAt, Instant expiresAt) {
+        return new VerifiedToken(subject, type, jti, sessionId != null ? sessionId : DEFAULT_SESSION_ID,
+                issuedAt, expiresAt, null);
+    }
+
+    /**
+     * 검증 실패 결과 생성
+     */
+    public static VerifiedToken invalid(FailureReason failureReason) {
+        return new VerifiedToken(null, null, null, null, null, null, failureReason);
+    }
+
+    /**
+     * 검증 성공 여부
+     * 
+     * @return 유효하면 true
+     */
+    public boolean isValid() {
+        return failureReason == null;
+    }
+
+    public String getSubject() {
+        return subject;
+    }
+
+    public TokenType getType() {
+        return type;
+    }
+
+    public String getJti() {
+        return jti;
+    }
+
+    /**
+     * 세션(토큰 패밀리) ID - 같은 로그인에서 회전된 토큰들은 같은 값을 가진다.
+     * 
+     * @return sid 클레임 값 (없으면 DEFAULT_SESSION_ID)
+     */
+    public String getSessionId() {
+        return sessionId;
+    }
+
+    public Instant getIssuedAt() {
+        return issuedAt;
+    }
+
+    public Instant getExpiresAt() {
+        return expiresAt;
+    }
+
+    public FailureReason getFailureReason() {
+        return failureReason;
+    }
+}
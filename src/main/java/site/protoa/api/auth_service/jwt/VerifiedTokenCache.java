@@ -0,0 +1,129 @@
+package site.protoa.api.auth_service.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * 검증된 JWT 캐시 (프로세스 내)
+ * 토큰 다이제스트를 키로 검증 결과를 보관해, 같은 토큰의 반복 HMAC 검증을 생략한다.
+ * 엔트리는 jwt.cache.max-ttl과 토큰 exp 중 더 이른 시점에 만료된다.
+ * 히트/미스는 Micrometer의 cache.gets 지표로 노출된다 (cache=jwt.verified-tokens).
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private final boolean enabled;
+    private final Cache<String, VerifiedToken> cache;
+
+    @Autowired
+    public VerifiedTokenCache(JwtProperties jwtProperties, MeterRegistry meterRegistry) {
+        JwtProperties.Cache properties = jwtProperties.getCache();
+        this.enabled = properties.isEnabled();
+
+        if (!enabled) {
+            this.cache = null;
+            return;
+        }
+
+        long maxTtlNanos = properties.getMaxTtl().toNanos();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxSize())
+                .expireAfter(new Expiry<String, VerifiedToken>() {
+                    @Override
+                    public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+                        return remainingNanos(value, maxTtlNanos);
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, VerifiedToken value, long currentTime,
+                            long currentDuration) {
+                        return remainingNanos(value, maxTtlNanos);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, VerifiedToken value, long currentTime,
+                            long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "jwt.verified-tokens");
+    }
+
+    /**
+     * 캐시 사용 여부
+     * 
+     * @return jwt.cache.enabled 값
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 캐시된 검증 결과 조회
+     * 
+     * @param digest 토큰 다이제스트 (TokenDigest.sha256Hex)
+     * @return VerifiedToken 또는 null (미스/만료)
+     */
+    public VerifiedToken get(String digest) {
+        if (!enabled) {
+            return null;
+        }
+
+        VerifiedToken cached = cache.getIfPresent(digest);
+        if (cached != null && !cached.getExpiresAt().isAfter(Instant.now())) {
+            // 만료 타이머 해상도 차이로 남아 있는 엔트리는 즉시 제거
+            cache.invalidate(digest);
+            return null;
+        }
+        return cached;
+    }
+
+    /**
+     * 검증에 성공한 토큰 저장 (exp가 없는 토큰은 저장하지 않음)
+     * 
+     * @param digest   토큰 다이제스트
+     * @param verified 검증 결과
+     */
+    public void put(String digest, VerifiedToken verified) {
+        if (!enabled || !verified.isValid() || verified.getExpiresAt() == null) {
+            return;
+        }
+        cache.put(digest, verified);
+    }
+
+    /**
+     * 특정 토큰의 캐시 엔트리 제거
+     * 
+     * @param digest 토큰 다이제스트
+     */
+    public void invalidate(String digest) {
+        if (enabled) {
+            cache.invalidate(digest);
+        }
+    }
+
+    /**
+     * 전체 캐시 비우기 (서명 키 변경 시)
+     */
+    public void invalidateAll() {
+        if (enabled) {
+            cache.invalidateAll();
+        }
+    }
+
+    private static long remainingNanos(VerifiedToken value, long maxTtlNanos) {
+        long untilExpiry = Duration.between(Instant.now(), value.getExpiresAt()).toNanos();
+        return Math.max(0L, Math.min(maxTtlNanos, untilExpiry));
+    }
+}
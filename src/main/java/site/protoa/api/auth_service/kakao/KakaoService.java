@@ -7,8 +7,10 @@ import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Mono;
 import site.protoa.api.auth_service.kakao.dto.KakaoTokenResponse;
 import site.protoa.api.auth_service.kakao.dto.KakaoUserInfo;
+import site.protoa.api.auth_service.oauth.OAuthProvider;
 
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
@@ -17,7 +19,7 @@ import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
-public class KakaoService {
+public class KakaoService implements OAuthProvider<KakaoTokenResponse> {
 
     private final WebClient webClient;
 
@@ -30,18 +32,36 @@ public class KakaoService {
     @Value("${kakao.client-secret:}")
     private String kakaoClientSecret;
 
+    // 부하 테스트 등에서 스텁 서버로 바꿀 수 있도록 설정으로 분리
+    @Value("${kakao.auth-base-url:https://kauth.kakao.com}")
+    private String kakaoAuthBaseUrl;
+
+    @Value("${kakao.api-base-url:https://kapi.kakao.com}")
+    private String kakaoApiBaseUrl;
+
     @Autowired
     public KakaoService(WebClient webClient) {
         this.webClient = webClient;
     }
 
+    @Override
+    public String getName() {
+        return "kakao";
+    }
+
+    @Override
+    public String getDisplayName() {
+        return "카카오";
+    }
+
     /**
      * 카카오 인가 URL 생성
      * 
      * @return 카카오 인가 URL
      */
+    @Override
     public String getAuthorizationUrl() {
-        return UriComponentsBuilder.fromUriString("https://kauth.kakao.com/oauth/authorize")
+        return UriComponentsBuilder.fromUriString(kakaoAuthBaseUrl + "/oauth/authorize")
                 .queryParam("client_id", kakaoRestApiKey)
                 .queryParam("redirect_uri", kakaoRedirectUri)
                 .queryParam("response_type", "code")
@@ -52,9 +72,9 @@ public class KakaoService {
      * 인가 코드로 액세스 토큰 요청
      * 
      * @param code 인가 코드
-     * @return KakaoTokenResponse
+     * @return KakaoTokenResponse Mono (구독 시 요청, 호출 스레드를 블로킹하지 않음)
      */
-    public KakaoTokenResponse getAccessToken(String code) {
+    public Mono<KakaoTokenResponse> getAccessToken(String code) {
         Map<String, String> formData = new HashMap<>();
         formData.put("grant_type", "authorization_code");
         formData.put("client_id", kakaoRestApiKey);
@@ -72,26 +92,37 @@ public class KakaoService {
                 .collect(Collectors.joining("&"));
 
         return webClient.post()
-                .uri("https://kauth.kakao.com/oauth/token")
+                .uri(kakaoAuthBaseUrl + "/oauth/token")
                 .contentType(MediaType.APPLICATION_FORM_URLENCODED)
                 .bodyValue(bodyString)
                 .retrieve()
-                .bodyToMono(KakaoTokenResponse.class)
-                .block();
+                .bodyToMono(KakaoTokenResponse.class);
     }
 
     /**
      * 액세스 토큰으로 사용자 정보 요청
      * 
      * @param accessToken 액세스 토큰
-     * @return KakaoUserInfo
+     * @return KakaoUserInfo Mono (구독 시 요청, 호출 스레드를 블로킹하지 않음)
      */
-    public KakaoUserInfo getUserInfo(String accessToken) {
+    public Mono<KakaoUserInfo> getUserInfo(String accessToken) {
         return webClient.get()
-                .uri("https://kapi.kakao.com/v2/user/me")
+                .uri(kakaoApiBaseUrl + "/v2/user/me")
                 .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
                 .retrieve()
-                .bodyToMono(KakaoUserInfo.class)
-                .block();
+                .bodyToMono(KakaoUserInfo.class);
+    }
+
+    @Override
+    public Mono<KakaoTokenResponse> exchangeCode(String code, String state) {
+        return getAccessToken(code)
+                .filter(tokenResponse -> tokenResponse.getAccessToken() != null);
+    }
+
+    @Override
+    public Mono<String> fetchUserId(KakaoTokenResponse token) {
+        return getUserInfo(token.getAccessToken())
+                .filter(userInfo -> userInfo.getId() != null)
+                .map(userInfo -> userInfo.getId().toString());
     }
 }
@@ -0,0 +1,32 @@
+package site.protoa.api.auth_service.log;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 콘솔 저장소 (기본값)
+ * 애플리케이션 로그(login-events 로거, 비동기 appender)로 이벤트당 한 줄씩 남긴다.
+ * 클라이언트 입력(action, url)은 파일 저장소와 같은 방식으로 개행을 제거해 로그 줄 위조를 막는다.
+ */
+@Component
+@ConditionalOnProperty(name = "log.login-events.sink", havingValue = "console", matchIfMissing = true)
+public class ConsoleLoginEventSink implements LoginEventSink {
+
+    private static final Logger log = LoggerFactory.getLogger("login-events");
+
+    @Override
+    public void write(List<LoginEvent> batch) {
+        if (!log.isInfoEnabled()) {
+            return;
+        }
+        for (LoginEvent event : batch) {
+            log.info("action={} url={} tokenLength={} occurredAt={}", LoginEventSink.sanitize(event.action()),
+                    event.url() != null ? LoginEventSink.sanitize(event.url()) : "N/A", event.tokenLength(),
+                    event.occurredAt());
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package site.protoa.api.auth_service.log;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * 파일 저장소 (log.login-events.sink=file)
+ * 배치마다 파일을 append 모드로 열어 탭 구분 한 줄씩 기록한다: 접수 시각(ISO-8601) / 동작 / URL / 토큰 길이
+ */
+@Component
+@ConditionalOnProperty(name = "log.login-events.sink", havingValue = "file")
+public class FileLoginEventSink implements LoginEventSink {
+
+    @Value("${log.login-events.file.path:logs/login-events.log}")
+    private Path path;
+
+    @Override
+    public void write(List<LoginEvent> batch) throws IOException {
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        try (BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            for (LoginEvent event : batch) {
+                writer.write(event.occurredAt().toString());
+                writer.write('\t');
+                writer.write(LoginEventSink.sanitize(event.action()));
+                writer.write('\t');
+                writer.write(LoginEventSink.sanitize(event.url()));
+                writer.write('\t');
+                writer.write(event.tokenLength() != null ? event.tokenLength().toString() : "");
+                writer.newLine();
+            }
+        }
+    }
+}
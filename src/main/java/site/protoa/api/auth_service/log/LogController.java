@@ -1,46 +1,47 @@
 package site.protoa.api.auth_service.log;
 
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import site.protoa.api.auth_service.audit.AuditEventType;
+import site.protoa.api.auth_service.audit.AuditLog;
 import site.protoa.api.auth_service.log.dto.LogRequest;
 
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.time.Instant;
 import java.util.HashMap;
-import java.util.Locale;
 import java.util.Map;
 
 @RestController
 @RequestMapping("/api/log")
 public class LogController {
 
+    private final LoginEventPublisher loginEventPublisher;
+    private final AuditLog auditLog;
+
+    @Autowired
+    public LogController(LoginEventPublisher loginEventPublisher, AuditLog auditLog) {
+        this.loginEventPublisher = loginEventPublisher;
+        this.auditLog = auditLog;
+    }
+
+    /**
+     * 로그인 로그 기록 (비동기)
+     * 이벤트를 버퍼에 넣고 바로 반환하며, 실제 기록은 LoginEventPublisher가 배치로 처리한다.
+     * 
+     * @param request 로그 요청
+     * @return 접수 결과 (queued: 버퍼가 가득 차 버려졌으면 false)
+     */
     @PostMapping("/login")
     public ResponseEntity<Map<String, Object>> logLogin(@RequestBody LogRequest request) {
-        try {
-            String timestamp = LocalDateTime.now()
-                    .format(DateTimeFormatter.ofPattern("yyyy. MM. dd. a h:mm:ss", Locale.KOREAN));
-
-            System.out.println("\n" + "=".repeat(60));
-            System.out.println("[" + timestamp + "] 🔹 " + request.getAction());
-            System.out.println("URL: " + (request.getUrl() != null ? request.getUrl() : "N/A"));
-            if (request.getTokenLength() != null) {
-                System.out.println("Token Length: " + request.getTokenLength());
-            }
-            System.out.println("=".repeat(60) + "\n");
-
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", true);
-            response.put("message", "로그가 기록되었습니다.");
-
-            return ResponseEntity.ok(response);
-        } catch (Exception e) {
-            System.err.println("❌ 로그인 로그 기록 실패: " + e.getMessage());
-
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", false);
-            response.put("error", "로그 기록 실패");
-
-            return ResponseEntity.status(500).body(response);
-        }
+        boolean queued = loginEventPublisher.publish(new LoginEvent(
+                request.getAction(), request.getUrl(), request.getTokenLength(), Instant.now()));
+        auditLog.record(AuditEventType.CLIENT_LOG, null, null, 0, request.getAction());
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("queued", queued);
+        response.put("message", queued ? "로그가 기록되었습니다." : "로그 버퍼가 가득 차 기록되지 않았습니다.");
+
+        return ResponseEntity.ok(response);
     }
 }
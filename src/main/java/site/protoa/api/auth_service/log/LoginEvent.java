@@ -0,0 +1,14 @@
+package site.protoa.api.auth_service.log;
+
+import java.time.Instant;
+
+/**
+ * 프론트엔드가 보고한 로그인 이벤트 (/api/log/login)
+ *
+ * @param action      동작 (예: 카카오 로그인 성공)
+ * @param url         발생 URL (없으면 null)
+ * @param tokenLength 토큰 길이 (없으면 null)
+ * @param occurredAt  접수 시각
+ */
+public record LoginEvent(String action, String url, Integer tokenLength, Instant occurredAt) {
+}
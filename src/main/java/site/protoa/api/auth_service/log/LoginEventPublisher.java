@@ -0,0 +1,145 @@
+package site.protoa.api.auth_service.log;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 로그인 이벤트 비동기 기록기
+ * 요청 스레드는 이벤트를 링 버퍼에 넣고 바로 반환하며, 백그라운드 writer(@Scheduled)가
+ * 버퍼를 배치 단위로 비워 LoginEventSink에 기록한다.
+ * 
+ * 버퍼가 가득 차면 log.login-events.drop-policy에 따라 새 이벤트(DROP_NEWEST) 또는
+ * 가장 오래된 이벤트(DROP_OLDEST)를 버린다.
+ * 지표: login.events.buffer.size / login.events.buffer.capacity (게이지),
+ * login.events{result=accepted|dropped|written|failed} (카운터), login.events.batch.write (배치 기록 시간)
+ */
+@Component
+public class LoginEventPublisher {
+
+    private static final Logger log = LoggerFactory.getLogger(LoginEventPublisher.class);
+
+    public enum DropPolicy {
+        DROP_NEWEST,
+        DROP_OLDEST
+    }
+
+    private final LoginEventRingBuffer buffer;
+    private final LoginEventSink sink;
+    private final DropPolicy dropPolicy;
+    private final int batchSize;
+    private final ReentrantLock drainLock = new ReentrantLock();
+    private final Counter acceptedCounter;
+    private final Counter droppedCounter;
+    private final Counter writtenCounter;
+    private final Counter failedCounter;
+    private final Timer batchWriteTimer;
+
+    @Autowired
+    public LoginEventPublisher(LoginEventSink sink, MeterRegistry meterRegistry,
+            @Value("${log.login-events.buffer-size:8192}") int bufferSize,
+            @Value("${log.login-events.batch-size:256}") int batchSize,
+            @Value("${log.login-events.drop-policy:DROP_NEWEST}") DropPolicy dropPolicy) {
+        this.buffer = new LoginEventRingBuffer(bufferSize);
+        this.sink = sink;
+        this.dropPolicy = dropPolicy;
+        this.batchSize = Math.max(1, batchSize);
+
+        Gauge.builder("login.events.buffer.size", buffer, LoginEventRingBuffer::size)
+                .description("기록 대기 중인 로그인 이벤트 수")
+                .register(meterRegistry);
+        Gauge.builder("login.events.buffer.capacity", buffer, LoginEventRingBuffer::capacity)
+                .register(meterRegistry);
+        this.acceptedCounter = meterRegistry.counter("login.events", "result", "accepted");
+        this.droppedCounter = meterRegistry.counter("login.events", "result", "dropped");
+        this.writtenCounter = meterRegistry.counter("login.events", "result", "written");
+        this.failedCounter = meterRegistry.counter("login.events", "result", "failed");
+        this.batchWriteTimer = meterRegistry.timer("login.events.batch.write");
+    }
+
+    /**
+     * 이벤트 접수 (블로킹하지 않음)
+     * 
+     * @param event 로그인 이벤트
+     * @return 버퍼에 들어갔으면 true, 버려졌으면 false
+     */
+    public boolean publish(LoginEvent event) {
+        if (buffer.offer(event)) {
+            acceptedCounter.increment();
+            return true;
+        }
+
+        if (dropPolicy == DropPolicy.DROP_OLDEST && buffer.poll() != null) {
+            droppedCounter.increment();
+            if (buffer.offer(event)) {
+                acceptedCounter.increment();
+                return true;
+            }
+        }
+        droppedCounter.increment();
+        return false;
+    }
+
+    /**
+     * 버퍼를 배치 단위로 비워 저장소에 기록 (백그라운드 writer)
+     */
+    @Scheduled(fixedDelayString = "${log.login-events.flush-interval:PT0.2S}")
+    public void flush() {
+        // 소비자는 한 번에 하나 (종료 시 flush와 겹치지 않도록)
+        if (!drainLock.tryLock()) {
+            return;
+        }
+        try {
+            drain();
+        } finally {
+            drainLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // 진행 중인 flush가 끝날 때까지 기다린 뒤 같은 락 안에서 남은 이벤트를 모두 기록
+        drainLock.lock();
+        try {
+            drain();
+        } finally {
+            drainLock.unlock();
+        }
+    }
+
+    /**
+     * 버퍼가 빌 때까지 배치 단위로 기록 (drainLock을 잡은 상태에서만 호출)
+     */
+    private void drain() {
+        List<LoginEvent> batch = new ArrayList<>(batchSize);
+        while (buffer.drainTo(batch, batchSize) > 0) {
+            write(batch);
+            batch.clear();
+        }
+    }
+
+    private void write(List<LoginEvent> batch) {
+        Timer.Sample sample = Timer.start();
+        try {
+            sink.write(batch);
+            writtenCounter.increment(batch.size());
+        } catch (Exception e) {
+            failedCounter.increment(batch.size());
+            log.warn("로그인 이벤트 {}건 기록 실패: {}", batch.size(), e.getMessage());
+        } finally {
+            sample.stop(batchWriteTimer);
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package site.protoa.api.auth_service.log;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 고정 크기 락 없는 링 버퍼 (다중 생산자 / 다중 소비자)
+ * 슬롯마다 시퀀스 번호를 두고, 생산자와 소비자는 각자의 위치(tail/head)를 CAS로 선점한다.
+ * 슬롯 시퀀스가 pos이면 비어 있고(쓰기 가능), pos + 1이면 pos번째 원소가 들어 있다.
+ * 가득 차면 offer가 바로 false를 반환한다 (대기하지 않음).
+ */
+class LoginEventRingBuffer {
+
+    private final AtomicReferenceArray<LoginEvent> slots;
+    private final AtomicLongArray sequences;
+    private final int capacity;
+    private final int mask;
+    private final AtomicLong head = new AtomicLong(); // 다음에 꺼낼 위치
+    private final AtomicLong tail = new AtomicLong(); // 다음에 넣을 위치
+
+    /**
+     * @param requestedCapacity 최소 용량 (2의 거듭제곱으로 올림)
+     */
+    LoginEventRingBuffer(int requestedCapacity) {
+        this.capacity = Integer.highestOneBit(Math.max(2, requestedCapacity) - 1) << 1;
+        this.mask = capacity - 1;
+        this.slots = new AtomicReferenceArray<>(capacity);
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * 원소 추가
+     * 
+     * @param event 이벤트
+     * @return 가득 차서 넣지 못하면 false
+     */
+    boolean offer(LoginEvent event) {
+        long pos = tail.get();
+        while (true) {
+            int index = (int) (pos & mask);
+            long diff = sequences.get(index) - pos;
+            if (diff == 0) {
+                if (tail.compareAndSet(pos, pos + 1)) {
+                    slots.set(index, event);
+                    sequences.set(index, pos + 1); // 소비자에게 공개
+                    return true;
+                }
+                pos = tail.get();
+            } else if (diff < 0) {
+                return false; // 한 바퀴 전 원소가 아직 소비되지 않음
+            } else {
+                pos = tail.get(); // 다른 생산자가 먼저 선점
+            }
+        }
+    }
+
+    /**
+     * 가장 오래된 원소 꺼내기
+     * 
+     * @return 이벤트 또는 null (비어 있음)
+     */
+    LoginEvent poll() {
+        long pos = head.get();
+        while (true) {
+            int index = (int) (pos & mask);
+            long diff = sequences.get(index) - (pos + 1);
+            if (diff == 0) {
+                if (head.compareAndSet(pos, pos + 1)) {
+                    LoginEvent event = slots.get(index);
+                    slots.set(index, null);
+                    sequences.set(index, pos + capacity); // 다음 바퀴 생산자에게 반환
+                    return event;
+                }
+                pos = head.get();
+            } else if (diff < 0) {
+                return null; // 비어 있음 (또는 생산자가 아직 쓰는 중)
+            } else {
+                pos = head.get();
+            }
+        }
+    }
+
+    /**
+     * 최대 maxElements개를 꺼내 batch에 추가
+     * 
+     * @return 꺼낸 원소 수
+     */
+    int drainTo(List<LoginEvent> batch, int maxElements) {
+        int drained = 0;
+        LoginEvent event;
+        while (drained < maxElements && (event = poll()) != null) {
+            batch.add(event);
+            drained++;
+        }
+        return drained;
+    }
+
+    /**
+     * 현재 원소 수 (근사값)
+     */
+    int size() {
+        long size = tail.get() - head.get();
+        return (int) Math.max(0L, Math.min(size, capacity));
+    }
+
+    int capacity() {
+        return capacity;
+    }
+}
@@ -0,0 +1,29 @@
+package site.protoa.api.auth_service.log;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * 로그인 이벤트 배치 저장소 (LoginEventPublisher의 백그라운드 writer가 호출)
+ * log.login-events.sink 값으로 구현체를 고른다 (console, file). DB 등 다른 저장소는 이 인터페이스를 구현해 추가한다.
+ */
+public interface LoginEventSink {
+
+    /**
+     * 이벤트 배치 기록 (단일 스레드에서 호출됨)
+     * 
+     * @param batch 접수 순서대로 정렬된 이벤트
+     * @throws IOException 기록 실패 (배치 전체를 실패로 집계)
+     */
+    void write(List<LoginEvent> batch) throws IOException;
+
+    /**
+     * 클라이언트 입력 정리 (구분자/개행을 공백으로 바꿔 이벤트당 한 줄을 유지, 로그 위조 방지)
+     * 
+     * @param value 클라이언트가 보낸 값
+     * @return 탭/CR/LF를 공백으로 바꾼 값 (null이면 빈 문자열)
+     */
+    static String sanitize(String value) {
+        return value == null ? "" : value.replace('\t', ' ').replace('\n', ' ').replace('\r', ' ');
+    }
+}
@@ -0,0 +1,191 @@
+package site.protoa.api.auth_service.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 소셜 로그인 콜백 / 토큰 갱신 단계별 소요 시간 계측
+ * 
+ * 메트릭 (/actuator/prometheus에 히스토그램으로 노출):
+ * - auth.login.stage{provider, stage, outcome}: 로그인 콜백 단계별 소요 시간
+ * - auth.refresh.stage{stage, outcome}: 토큰 갱신 단계별 소요 시간
+ * stage=total은 요청 전체 소요 시간이다.
+ * 
+ * 태그 값은 모두 고정된 집합에서만 나온다. (provider는 등록된 프로바이더 이름,
+ * stage는 아래 상수, outcome은 success/empty/error 또는 응답 상태 분류)
+ * 사용자 ID, 세션 ID, 오류 메시지 등은 태그로 쓰지 않는다.
+ */
+@Component
+public class AuthFlowMetrics {
+
+    // 로그인 콜백 단계
+    public static final String EXCHANGE = "exchange"; // 인가 코드 → 프로바이더 토큰
+    public static final String USERINFO = "userinfo"; // 프로바이더 사용자 ID 확인
+    public static final String REDIS_SAVE = "redis_save"; // Access Token 저장
+    public static final String DB_SAVE = "db_save"; // Refresh Token 저장
+    public static final String DB_SESSION_LIMIT = "db_session_limit"; // 세션 수 제한
+
+    // 토큰 갱신 단계
+    public static final String JWT_VERIFY = "jwt_verify"; // Refresh Token 서명/만료 검증
+    public static final String DB_LOOKUP = "db_lookup"; // 저장된 Refresh Token 확인
+    public static final String REDIS_ROTATE = "redis_rotate"; // 회전 기록 + Access Token 교체
+
+    // 공통
+    public static final String JWT_SIGN = "jwt_sign"; // Access/Refresh Token 발급
+    public static final String TOTAL = "total";
+
+    public static final String SUCCESS = "success";
+    public static final String EMPTY = "empty"; // 프로바이더 응답에 필요한 값이 없음
+    public static final String ERROR = "error";
+
+    private static final String LOGIN_TIMER = "auth.login.stage";
+    private static final String REFRESH_TIMER = "auth.refresh.stage";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+
+    @Autowired
+    public AuthFlowMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 로그인 단계(논블로킹 호출) 계측
+     * 구독 시점부터 값/빈 완료/오류 시점까지를 기록한다. (취소는 기록하지 않음)
+     * 
+     * @param provider 프로바이더 이름
+     * @param stage    단계
+     * @param call     계측할 호출
+     * @return 계측이 붙은 호출
+     */
+    public <T> Mono<T> loginStage(String provider, String stage, Mono<T> call) {
+        return Mono.defer(() -> {
+            long startNanos = System.nanoTime();
+            return call
+                    .doOnSuccess(value -> recordLogin(provider, stage, value != null ? SUCCESS : EMPTY, startNanos))
+                    .doOnError(e -> recordLogin(provider, stage, ERROR, startNanos));
+        });
+    }
+
+    /**
+     * 로그인 단계(블로킹 호출) 계측
+     * 
+     * @param provider 프로바이더 이름
+     * @param stage    단계
+     * @param call     계측할 호출
+     */
+    public void loginStage(String provider, String stage, Runnable call) {
+        long startNanos = System.nanoTime();
+        try {
+            call.run();
+        } catch (RuntimeException e) {
+            recordLogin(provider, stage, ERROR, startNanos);
+            throw e;
+        }
+        recordLogin(provider, stage, SUCCESS, startNanos);
+    }
+
+    /**
+     * 로그인 단계 소요 시간 기록
+     * 
+     * @param provider   프로바이더 이름
+     * @param stage      단계
+     * @param outcome    결과
+     * @param startNanos 시작 시각 (System.nanoTime)
+     */
+    public void recordLogin(String provider, String stage, String outcome, long startNanos) {
+        timer(LOGIN_TIMER, "로그인 콜백 단계별 소요 시간", "provider", provider, "stage", stage, "outcome", outcome)
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 토큰 갱신 단계 계측
+     * 
+     * @param stage 단계
+     * @param call  계측할 호출
+     * @return 호출 결과
+     */
+    public <T> T refreshStage(String stage, Supplier<T> call) {
+        long startNanos = System.nanoTime();
+        T result;
+        try {
+            result = call.get();
+        } catch (RuntimeException e) {
+            recordRefresh(stage, ERROR, startNanos);
+            throw e;
+        }
+        recordRefresh(stage, SUCCESS, startNanos);
+        return result;
+    }
+
+    /**
+     * 토큰 갱신 단계 계측 (반환값 없는 호출)
+     * 
+     * @param stage 단계
+     * @param call  계측할 호출
+     */
+    public void refreshStage(String stage, Runnable call) {
+        refreshStage(stage, () -> {
+            call.run();
+            return null;
+        });
+    }
+
+    /**
+     * 토큰 갱신 단계 소요 시간 기록
+     * 
+     * @param stage      단계
+     * @param outcome    결과
+     * @param startNanos 시작 시각 (System.nanoTime)
+     */
+    public void recordRefresh(String stage, String outcome, long startNanos) {
+        timer(REFRESH_TIMER, "토큰 갱신 단계별 소요 시간", "stage", stage, "outcome", outcome)
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 응답 상태를 outcome 태그 값으로 분류 (stage=total용)
+     * 
+     * @param status 응답 상태
+     * @return success, unauthorized, conflict, unavailable, client_error, error 중 하나
+     */
+    public static String outcome(HttpStatusCode status) {
+        if (status.is2xxSuccessful() || status.is3xxRedirection()) {
+            return SUCCESS;
+        }
+        if (status.value() == HttpStatus.UNAUTHORIZED.value()) {
+            return "unauthorized";
+        }
+        if (status.value() == HttpStatus.CONFLICT.value()) {
+            return "conflict";
+        }
+        if (status.value() == HttpStatus.SERVICE_UNAVAILABLE.value()) {
+            return "unavailable"; // Circuit Breaker / Bulkhead 거절
+        }
+        return status.is4xxClientError() ? "client_error" : ERROR;
+    }
+
+    // 요청마다 빌더/태그 정렬/레지스트리 조회를 거치지 않도록 이름+태그별 Timer를 캐시한다.
+    // (태그 값이 고정된 집합에서만 나오므로 캐시 크기도 일정함)
+    // 버킷 범위를 1ms~30s로 제한해 시계열 수를 일정하게 유지
+    private Timer timer(String name, String description, String... tags) {
+        return timers.computeIfAbsent(name + '|' + String.join("|", tags), key -> Timer.builder(name)
+                .description(description)
+                .tags(tags)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofMillis(1))
+                .maximumExpectedValue(Duration.ofSeconds(30))
+                .register(meterRegistry));
+    }
+}
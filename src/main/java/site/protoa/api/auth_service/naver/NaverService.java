@@ -7,8 +7,10 @@ import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Mono;
 import site.protoa.api.auth_service.naver.dto.NaverTokenResponse;
 import site.protoa.api.auth_service.naver.dto.NaverUserInfo;
+import site.protoa.api.auth_service.oauth.OAuthProvider;
 
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
@@ -18,7 +20,7 @@ import java.util.UUID;
 import java.util.stream.Collectors;
 
 @Service
-public class NaverService {
+public class NaverService implements OAuthProvider<NaverTokenResponse> {
 
     private final WebClient webClient;
 
@@ -31,19 +33,37 @@ public class NaverService {
     @Value("${naver.redirect-uri}")
     private String naverRedirectUri;
 
+    // 부하 테스트 등에서 스텁 서버로 바꿀 수 있도록 설정으로 분리
+    @Value("${naver.auth-base-url:https://nid.naver.com}")
+    private String naverAuthBaseUrl;
+
+    @Value("${naver.api-base-url:https://openapi.naver.com}")
+    private String naverApiBaseUrl;
+
     @Autowired
     public NaverService(WebClient webClient) {
         this.webClient = webClient;
     }
 
+    @Override
+    public String getName() {
+        return "naver";
+    }
+
+    @Override
+    public String getDisplayName() {
+        return "네이버";
+    }
+
     /**
      * 네이버 인가 URL 생성
      * 
      * @return 네이버 인가 URL
      */
+    @Override
     public String getAuthorizationUrl() {
         String state = UUID.randomUUID().toString();
-        return UriComponentsBuilder.fromUriString("https://nid.naver.com/oauth2.0/authorize")
+        return UriComponentsBuilder.fromUriString(naverAuthBaseUrl + "/oauth2.0/authorize")
                 .queryParam("response_type", "code")
                 .queryParam("client_id", naverClientId)
                 .queryParam("redirect_uri", naverRedirectUri)
@@ -55,10 +75,14 @@ public class NaverService {
      * 인가 코드로 액세스 토큰 요청
      * 
      * @param code  인가 코드
-     * @param state 상태 값
-     * @return NaverTokenResponse
+     * @param state 상태 값 (네이버는 필수, 없으면 IllegalArgumentException으로 실패하는 Mono)
+     * @return NaverTokenResponse Mono (구독 시 요청, 호출 스레드를 블로킹하지 않음)
      */
-    public NaverTokenResponse getAccessToken(String code, String state) {
+    public Mono<NaverTokenResponse> getAccessToken(String code, String state) {
+        if (state == null || state.isBlank()) {
+            return Mono.error(new IllegalArgumentException("state 값이 필요합니다."));
+        }
+
         Map<String, String> formData = new HashMap<>();
         formData.put("grant_type", "authorization_code");
         formData.put("client_id", naverClientId);
@@ -72,26 +96,37 @@ public class NaverService {
                 .collect(Collectors.joining("&"));
 
         return webClient.post()
-                .uri("https://nid.naver.com/oauth2.0/token")
+                .uri(naverAuthBaseUrl + "/oauth2.0/token")
                 .contentType(MediaType.APPLICATION_FORM_URLENCODED)
                 .bodyValue(bodyString)
                 .retrieve()
-                .bodyToMono(NaverTokenResponse.class)
-                .block();
+                .bodyToMono(NaverTokenResponse.class);
     }
 
     /**
      * 액세스 토큰으로 사용자 정보 요청
      * 
      * @param accessToken 액세스 토큰
-     * @return NaverUserInfo
+     * @return NaverUserInfo Mono (구독 시 요청, 호출 스레드를 블로킹하지 않음)
      */
-    public NaverUserInfo getUserInfo(String accessToken) {
+    public Mono<NaverUserInfo> getUserInfo(String accessToken) {
         return webClient.get()
-                .uri("https://openapi.naver.com/v1/nid/me")
+                .uri(naverApiBaseUrl + "/v1/nid/me")
                 .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
                 .retrieve()
-                .bodyToMono(NaverUserInfo.class)
-                .block();
+                .bodyToMono(NaverUserInfo.class);
+    }
+
+    @Override
+    public Mono<NaverTokenResponse> exchangeCode(String code, String state) {
+        return getAccessToken(code, state)
+                .filter(tokenResponse -> tokenResponse.getAccessToken() != null);
+    }
+
+    @Override
+    public Mono<String> fetchUserId(NaverTokenResponse token) {
+        return getUserInfo(token.getAccessToken())
+                .filter(userInfo -> userInfo.getResponse() != null && userInfo.getResponse().getId() != null)
+                .map(userInfo -> userInfo.getResponse().getId());
     }
 }
@@ -0,0 +1,90 @@
+package site.protoa.api.auth_service.oauth;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import jakarta.servlet.http.HttpServletResponse;
+import reactor.core.publisher.Mono;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 소셜 로그인 엔드포인트 (등록된 모든 OAuthProvider 공통)
+ * /api/auth/kakao, /api/auth/naver, /api/auth/google 등
+ */
+@RestController
+@RequestMapping("/api/auth/{provider}")
+public class OAuthLoginController {
+
+    private final OAuthLoginPipeline oAuthLoginPipeline;
+
+    @Autowired
+    public OAuthLoginController(OAuthLoginPipeline oAuthLoginPipeline) {
+        this.oAuthLoginPipeline = oAuthLoginPipeline;
+    }
+
+    /**
+     * 인가 URL 생성 및 반환
+     * 프론트엔드에서 이 URL로 리다이렉트
+     * 
+     * @param providerName                  프로바이더 이름
+     * @param frontendCallbackUrlFromHeader Gateway에서 전달한 프론트엔드 URL
+     * @param response                      HttpServletResponse (쿠키 설정용)
+     * @return 인가 URL
+     */
+    @GetMapping("/login")
+    public ResponseEntity<Map<String, String>> getAuthUrl(
+            @PathVariable("provider") String providerName,
+            @RequestHeader(value = "X-Frontend-Callback-Url", required = false) String frontendCallbackUrlFromHeader,
+            HttpServletResponse response) {
+        OAuthProvider<?> provider = oAuthLoginPipeline.findProvider(providerName);
+        if (provider == null) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(Map.of(
+                            "error", "Not Found",
+                            "message", "지원하지 않는 로그인 방식입니다."));
+        }
+
+        // 프론트엔드 URL을 쿠키에 저장 (콜백에서 사용)
+        if (frontendCallbackUrlFromHeader != null && !frontendCallbackUrlFromHeader.isEmpty()) {
+            response.addHeader(HttpHeaders.SET_COOKIE,
+                    oAuthLoginPipeline.frontendCallbackUrlCookie(frontendCallbackUrlFromHeader).toString());
+        }
+
+        Map<String, String> responseMap = new HashMap<>();
+        responseMap.put("authUrl", provider.getAuthorizationUrl());
+        return ResponseEntity.ok(responseMap);
+    }
+
+    /**
+     * 인가 코드 콜백 처리 (비동기, OAuthLoginPipeline 참고)
+     * 
+     * @param providerName                  프로바이더 이름
+     * @param code                          인가 코드
+     * @param state                         상태 값 (네이버)
+     * @param frontendCallbackUrlFromHeader Gateway에서 전달한 프론트엔드 URL
+     * @param frontendCallbackUrlFromCookie 로그인 시작 시 저장한 프론트엔드 URL
+     * @return 프론트엔드로 리다이렉트 (쿠키에 JWT 토큰 포함)
+     */
+    @GetMapping("/callback")
+    public Mono<ResponseEntity<Object>> callback(
+            @PathVariable("provider") String providerName,
+            @RequestParam("code") String code,
+            @RequestParam(value = "state", required = false) String state,
+            @RequestHeader(value = "X-Frontend-Callback-Url", required = false) String frontendCallbackUrlFromHeader,
+            @CookieValue(value = "FrontendCallbackUrl", required = false) String frontendCallbackUrlFromCookie) {
+        OAuthProvider<?> provider = oAuthLoginPipeline.findProvider(providerName);
+        if (provider == null) {
+            return Mono.just(ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(Map.of(
+                            "error", "Not Found",
+                            "message", "지원하지 않는 로그인 방식입니다.")));
+        }
+
+        return oAuthLoginPipeline.login(provider, code, state,
+                frontendCallbackUrlFromHeader, frontendCallbackUrlFromCookie);
+    }
+}
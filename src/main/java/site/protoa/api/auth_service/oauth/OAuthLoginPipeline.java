@@ -0,0 +1,336 @@
+package site.protoa.api.auth_service.oauth;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.reactor.bulkhead.operator.BulkheadOperator;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseCookie;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import site.protoa.api.auth_service.audit.AuditEventType;
+import site.protoa.api.auth_service.audit.AuditLog;
+import site.protoa.api.auth_service.jwt.JwtTokenProvider;
+import site.protoa.api.auth_service.metrics.AuthFlowMetrics;
+import site.protoa.api.auth_service.session.SessionService;
+import site.protoa.api.auth_service.token.AccessTokenService;
+import site.protoa.api.auth_service.token.RefreshTokenService;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 소셜 로그인 공통 파이프라인
+ * 1. 인가 코드로 프로바이더 토큰 요청 (논블로킹)
+ * 2. 프로바이더 사용자 ID 확인 (논블로킹)
+ * 3. JWT 및 Refresh Token 발급, 저장 (블로킹: blockingScheduler에서 수행)
+ *    auth.login.parallel-persistence가 켜져 있으면 Redis(Access Token)와 DB(Refresh Token) 저장을 동시에 수행하고,
+ *    한쪽이 실패하면 성공한 쪽을 삭제(폐기)한 뒤 로그인을 실패로 처리한다.
+ * 4. 토큰을 쿠키에 담아 프론트엔드 콜백 페이지로 리다이렉트
+ * 
+ * 모든 프로바이더가 같은 단계를 거치므로, 단계별 최적화/계측은 여기 한 곳에서 처리한다.
+ * 
+ * 프로바이더 호출(1, 2)은 프로바이더 이름별 Bulkhead(동시 호출 수 제한)와 Circuit Breaker로 감싼다.
+ * 한 프로바이더가 느려지거나 장애가 나면 그 프로바이더의 로그인만 즉시 503으로 실패하고,
+ * 다른 프로바이더와 /me, /refresh 등 나머지 엔드포인트는 영향을 받지 않는다.
+ * 설정은 resilience4j.circuitbreaker.*, resilience4j.bulkhead.* (configs.default가 모든 프로바이더에 적용)
+ * 
+ * 각 단계와 전체 소요 시간은 AuthFlowMetrics(auth.login.stage)로 프로바이더/결과별로 기록한다.
+ */
+@Service
+public class OAuthLoginPipeline {
+
+    private static final Logger log = LoggerFactory.getLogger(OAuthLoginPipeline.class);
+
+    private final Map<String, OAuthProvider<?>> providers;
+    private final JwtTokenProvider jwtTokenProvider;
+    private final AccessTokenService accessTokenService;
+    private final RefreshTokenService refreshTokenService;
+    private final SessionService sessionService;
+    private final Scheduler blockingScheduler;
+    private final CircuitBreakerRegistry circuitBreakerRegistry;
+    private final BulkheadRegistry bulkheadRegistry;
+    private final AuditLog auditLog;
+    private final AuthFlowMetrics authFlowMetrics;
+
+    @Value("${frontend.login-callback-url:http://localhost:3000}")
+    private String frontendCallbackUrl;
+
+    @Value("${auth.login.parallel-persistence:true}")
+    private boolean parallelPersistence;
+
+    @Value("${cookie.secure:false}")
+    private boolean cookieSecure;
+
+    @Value("${cookie.same-site:Lax}")
+    private String cookieSameSite;
+
+    @Autowired
+    public OAuthLoginPipeline(List<OAuthProvider<?>> providers, JwtTokenProvider jwtTokenProvider,
+            AccessTokenService accessTokenService, RefreshTokenService refreshTokenService,
+            SessionService sessionService, Scheduler blockingScheduler,
+            CircuitBreakerRegistry circuitBreakerRegistry, BulkheadRegistry bulkheadRegistry, AuditLog auditLog,
+            AuthFlowMetrics authFlowMetrics) {
+        this.providers = providers.stream()
+                .collect(Collectors.toUnmodifiableMap(OAuthProvider::getName, Function.identity()));
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.accessTokenService = accessTokenService;
+        this.refreshTokenService = refreshTokenService;
+        this.sessionService = sessionService;
+        this.blockingScheduler = blockingScheduler;
+        this.circuitBreakerRegistry = circuitBreakerRegistry;
+        this.bulkheadRegistry = bulkheadRegistry;
+        this.auditLog = auditLog;
+        this.authFlowMetrics = authFlowMetrics;
+    }
+
+    /**
+     * 이름으로 프로바이더 조회
+     * 
+     * @param name 프로바이더 이름
+     * @return 프로바이더 또는 null
+     */
+    public OAuthProvider<?> findProvider(String name) {
+        return providers.get(name);
+    }
+
+    /**
+     * 인가 코드 콜백 처리
+     * 
+     * @param provider                      프로바이더
+     * @param code                          인가 코드
+     * @param state                         상태 값
+     * @param frontendCallbackUrlFromHeader Gateway에서 전달한 프론트엔드 URL
+     * @param frontendCallbackUrlFromCookie 로그인 시작 시 저장한 프론트엔드 URL
+     * @return 프론트엔드로 리다이렉트 (쿠키에 JWT 토큰 포함) 또는 실패 응답
+     */
+    public <T> Mono<ResponseEntity<Object>> login(OAuthProvider<T> provider, String code, String state,
+            String frontendCallbackUrlFromHeader, String frontendCallbackUrlFromCookie) {
+        String name = provider.getName();
+        String displayName = provider.getDisplayName();
+        long startNanos = System.nanoTime();
+        CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(provider.getName());
+        Bulkhead bulkhead = bulkheadRegistry.bulkhead(provider.getName());
+
+        // 1. 인가 코드로 토큰 요청
+        // (거절된 호출은 구독되지 않으므로 단계 시간에 포함되지 않고 total의 unavailable로만 집계됨)
+        // 요청 준비 중 예외가 나도 파이프라인 오류로 처리되도록 구독 시점에 호출을 만든다
+        return isolate(authFlowMetrics.loginStage(name, AuthFlowMetrics.EXCHANGE,
+                Mono.defer(() -> provider.exchangeCode(code, state))), circuitBreaker, bulkhead)
+                // 2. 사용자 ID 확인
+                .flatMap(token -> isolate(
+                        authFlowMetrics.loginStage(name, AuthFlowMetrics.USERINFO, provider.fetchUserId(token)),
+                        circuitBreaker, bulkhead)
+                        .publishOn(blockingScheduler)
+                        // 3-4. 토큰 발급/저장 후 리다이렉트
+                        .flatMap(userId -> completeLogin(provider, userId,
+                                frontendCallbackUrlFromHeader, frontendCallbackUrlFromCookie)
+                                .doOnNext(response -> auditLog.record(AuditEventType.LOGIN, provider.getName(),
+                                        userId, elapsedMillis(startNanos), null)))
+                        .defaultIfEmpty(failure(displayName + " 사용자 정보 조회 실패")))
+                .defaultIfEmpty(failure(displayName + " 토큰 요청 실패"))
+                .onErrorResume(e -> Mono.just(isRejected(e)
+                        ? unavailable(displayName + " 로그인을 일시적으로 사용할 수 없습니다. 잠시 후 다시 시도해주세요.")
+                        : failure(displayName + " 로그인 처리 중 오류: " + e.getMessage())))
+                .doOnNext(response -> {
+                    authFlowMetrics.recordLogin(name, AuthFlowMetrics.TOTAL,
+                            AuthFlowMetrics.outcome(response.getStatusCode()), startNanos);
+                    if (!response.getStatusCode().is3xxRedirection()) {
+                        auditLog.record(AuditEventType.LOGIN_FAILED, provider.getName(), null,
+                                elapsedMillis(startNanos), "HTTP " + response.getStatusCode().value());
+                    }
+                });
+    }
+
+    private static long elapsedMillis(long startNanos) {
+        return (System.nanoTime() - startNanos) / 1_000_000;
+    }
+
+    /**
+     * 프로바이더 호출에 Bulkhead와 Circuit Breaker 적용
+     * (Bulkhead가 안쪽: 동시 호출 수 초과로 거절된 호출은 Circuit Breaker 실패로 세지 않도록 설정)
+     */
+    private static <R> Mono<R> isolate(Mono<R> call, CircuitBreaker circuitBreaker, Bulkhead bulkhead) {
+        return call
+                .transformDeferred(BulkheadOperator.of(bulkhead))
+                .transformDeferred(CircuitBreakerOperator.of(circuitBreaker));
+    }
+
+    private static boolean isRejected(Throwable e) {
+        return e instanceof CallNotPermittedException || e instanceof BulkheadFullException;
+    }
+
+    /**
+     * 로그인 시작 시 프론트엔드 URL을 보관할 쿠키 (콜백에서 사용)
+     * 
+     * @param frontendCallbackUrl 프론트엔드 URL
+     * @return FrontendCallbackUrl 쿠키
+     */
+    public ResponseCookie frontendCallbackUrlCookie(String frontendCallbackUrl) {
+        return cookie("FrontendCallbackUrl", frontendCallbackUrl, 300); // 5분 (OAuth 플로우 완료 시간)
+    }
+
+    /**
+     * 로그인 완료 처리 (토큰 발급 → Redis/DB 저장 → 세션 수 제한 → 응답 생성)
+     */
+    private Mono<ResponseEntity<Object>> completeLogin(OAuthProvider<?> provider, String userId,
+            String frontendCallbackUrlFromHeader, String frontendCallbackUrlFromCookie) {
+        // 3. JWT 및 Refresh Token 발급 (프로바이더 ID를 subject로 사용, 로그인마다 새 세션)
+        String name = provider.getName();
+        long signStartNanos = System.nanoTime();
+        String sessionId = jwtTokenProvider.newSessionId();
+        String jwt = jwtTokenProvider.generateToken(userId, sessionId);
+        String refreshToken = jwtTokenProvider.generateRefreshToken(userId, sessionId);
+        authFlowMetrics.recordLogin(name, AuthFlowMetrics.JWT_SIGN, AuthFlowMetrics.SUCCESS, signStartNanos);
+
+        // 3-1. 로그 (보안: 토큰 원문은 남기지 않음)
+        log.info("로그인 성공 provider={} userId={} sessionId={}", provider.getName(), userId, sessionId);
+
+        // 3-2. Access Token을 Redis에, Refresh Token을 Neon DB에 저장
+        long accessTokenExpirationSeconds = jwtTokenProvider.getExpiration() / 1000;
+        long refreshTokenExpirationSeconds = jwtTokenProvider.getRefreshExpiration() / 1000;
+        Mono<Void> saveAccessToken = Mono.<Void>fromRunnable(
+                () -> authFlowMetrics.loginStage(name, AuthFlowMetrics.REDIS_SAVE,
+                        () -> accessTokenService.saveToken(userId, sessionId, jwt, accessTokenExpirationSeconds)))
+                .subscribeOn(blockingScheduler);
+        Mono<Void> saveRefreshToken = Mono.<Void>fromRunnable(
+                () -> authFlowMetrics.loginStage(name, AuthFlowMetrics.DB_SAVE,
+                        () -> refreshTokenService.saveToken(userId, sessionId, refreshToken,
+                                refreshTokenExpirationSeconds)))
+                .subscribeOn(blockingScheduler);
+        Mono<Void> persist = parallelPersistence
+                ? persistConcurrently(userId, sessionId, saveAccessToken, saveRefreshToken)
+                : saveAccessToken.then(saveRefreshToken);
+
+        return persist.then(Mono.fromCallable(() -> {
+            // 3-3. 세션 수 제한 (가장 오래 사용하지 않은 세션부터 종료)
+            authFlowMetrics.loginStage(name, AuthFlowMetrics.DB_SESSION_LIMIT,
+                    () -> sessionService.enforceSessionLimit(userId));
+
+            return buildRedirect(provider, jwt, refreshToken, accessTokenExpirationSeconds,
+                    refreshTokenExpirationSeconds, frontendCallbackUrlFromHeader, frontendCallbackUrlFromCookie);
+        }).subscribeOn(blockingScheduler));
+    }
+
+    /**
+     * Access Token(Redis)과 Refresh Token(DB)을 동시에 저장하고 두 결과를 모두 기다린다.
+     * 한쪽만 성공하면 성공한 쪽을 삭제해 반쪽 세션이 남지 않게 한다.
+     * (Access Token 삭제는 세션 폐기 시점도 전파하므로, 이미 다른 노드에 알려진 토큰도 무효가 된다.)
+     * 
+     * @return 둘 다 성공하면 완료, 아니면 먼저 확인된 저장 오류
+     */
+    private Mono<Void> persistConcurrently(String userId, String sessionId, Mono<Void> saveAccessToken,
+            Mono<Void> saveRefreshToken) {
+        return Mono.zip(outcome(saveAccessToken), outcome(saveRefreshToken))
+                .flatMap(results -> {
+                    Throwable accessError = results.getT1().orElse(null);
+                    Throwable refreshError = results.getT2().orElse(null);
+                    if (accessError == null && refreshError == null) {
+                        return Mono.<Void>empty();
+                    }
+
+                    Mono<Void> compensation = Mono.empty();
+                    if (accessError == null) {
+                        compensation = Mono.fromRunnable(() -> accessTokenService.deleteToken(userId, sessionId));
+                    } else if (refreshError == null) {
+                        compensation = Mono.fromRunnable(() -> refreshTokenService.deleteSession(userId, sessionId));
+                    }
+
+                    Throwable error = accessError != null ? accessError : refreshError;
+                    return compensation
+                            .subscribeOn(blockingScheduler)
+                            .onErrorResume(e -> {
+                                error.addSuppressed(e);
+                                return Mono.empty();
+                            })
+                            .then(Mono.<Void>error(error));
+                });
+    }
+
+    private static Mono<Optional<Throwable>> outcome(Mono<Void> write) {
+        return write.then(Mono.just(Optional.<Throwable>empty()))
+                .onErrorResume(e -> Mono.just(Optional.of(e)));
+    }
+
+    /**
+     * 토큰 쿠키를 담아 프론트엔드 콜백 페이지로 리다이렉트하는 응답 생성
+     */
+    private ResponseEntity<Object> buildRedirect(OAuthProvider<?> provider, String jwt, String refreshToken,
+            long accessTokenExpirationSeconds, long refreshTokenExpirationSeconds,
+            String frontendCallbackUrlFromHeader, String frontendCallbackUrlFromCookie) {
+        HttpHeaders headers = new HttpHeaders();
+
+        // 4. Access Token, Refresh Token을 쿠키에 저장 (ResponseCookie로 SameSite 명시적 설정)
+        headers.add(HttpHeaders.SET_COOKIE, cookie("Authorization", jwt, accessTokenExpirationSeconds).toString());
+        headers.add(HttpHeaders.SET_COOKIE,
+                cookie("RefreshToken", refreshToken, refreshTokenExpirationSeconds).toString());
+
+        // 4-1. 프론트엔드 콜백 페이지로 리다이렉트 (토큰 없는 URL)
+        // 우선순위: 헤더 > 쿠키 > 환경 변수
+        String callbackUrl = frontendCallbackUrl;
+        if (frontendCallbackUrlFromHeader != null && !frontendCallbackUrlFromHeader.isEmpty()) {
+            callbackUrl = frontendCallbackUrlFromHeader;
+        } else if (frontendCallbackUrlFromCookie != null && !frontendCallbackUrlFromCookie.isEmpty()) {
+            callbackUrl = frontendCallbackUrlFromCookie;
+        }
+
+        // URL에서 경로 부분 제거 (프로토콜 + 호스트 + 포트만 유지)
+        try {
+            java.net.URL url = new java.net.URL(callbackUrl);
+            callbackUrl = url.getProtocol() + "://" + url.getHost()
+                    + (url.getPort() != -1 ? ":" + url.getPort() : "");
+        } catch (Exception e) {
+            // URL 파싱 실패 시 그대로 사용
+        }
+
+        String redirectUrl = callbackUrl + "/login/" + provider.getName() + "/callback";
+
+        // 쿠키 삭제 (사용 완료)
+        if (frontendCallbackUrlFromCookie != null) {
+            headers.add(HttpHeaders.SET_COOKIE, cookie("FrontendCallbackUrl", "", 0).toString());
+        }
+
+        log.debug("로그인 리다이렉트 provider={} header={} cookie={} callbackUrl={} redirectUrl={}",
+                provider.getName(), frontendCallbackUrlFromHeader, frontendCallbackUrlFromCookie, callbackUrl,
+                redirectUrl);
+
+        return ResponseEntity.status(HttpStatus.FOUND)
+                .headers(headers)
+                .header(HttpHeaders.LOCATION, redirectUrl)
+                .build();
+    }
+
+    private ResponseCookie cookie(String name, String value, long maxAgeSeconds) {
+        return ResponseCookie.from(name, value)
+                .httpOnly(true) // JavaScript 접근 차단 (XSS 방지)
+                .secure(cookieSecure) // HTTPS에서만 전송 (프로덕션: true)
+                .path("/") // 모든 경로에서 사용 가능
+                .maxAge(maxAgeSeconds) // 초 단위 (0이면 즉시 삭제)
+                .sameSite(cookieSameSite.equals("None") ? "None" : cookieSameSite) // Lax, Strict, None
+                .build();
+    }
+
+    private ResponseEntity<Object> unavailable(String message) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .body(Map.of("success", false, "message", message));
+    }
+
+    private ResponseEntity<Object> failure(String message) {
+        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(Map.of("success", false, "message", message));
+    }
+}
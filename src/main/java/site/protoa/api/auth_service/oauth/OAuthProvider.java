@@ -0,0 +1,49 @@
+package site.protoa.api.auth_service.oauth;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * 소셜 로그인 프로바이더 SPI
+ * 구현체를 빈으로 등록하면 OAuthLoginController가 /api/auth/{name}/login, /api/auth/{name}/callback으로 노출하고,
+ * 로그인 처리(토큰 발급/저장, 쿠키, 리다이렉트)는 OAuthLoginPipeline이 공통으로 수행한다.
+ * 
+ * 프로바이더 호출은 논블로킹(Mono)이어야 하며, 실패 시 빈 Mono 또는 에러를 반환한다.
+ *
+ * @param <T> 프로바이더 토큰 응답 타입
+ */
+public interface OAuthProvider<T> {
+
+    /**
+     * 프로바이더 이름 (URL 경로, 프론트엔드 콜백 경로에 사용: kakao, naver, google)
+     */
+    String getName();
+
+    /**
+     * 사용자 메시지용 표시 이름 (카카오, 네이버, 구글)
+     */
+    String getDisplayName();
+
+    /**
+     * 인가 URL 생성
+     * 
+     * @return 프로바이더 인가 URL
+     */
+    String getAuthorizationUrl();
+
+    /**
+     * 인가 코드를 토큰으로 교환
+     * 
+     * @param code  인가 코드
+     * @param state 상태 값 (사용하지 않는 프로바이더는 무시)
+     * @return 토큰 응답 Mono (액세스 토큰이 없으면 빈 Mono)
+     */
+    Mono<T> exchangeCode(String code, String state);
+
+    /**
+     * 토큰으로 프로바이더 사용자 ID 확인
+     * 
+     * @param token exchangeCode의 결과
+     * @return 사용자 ID Mono (확인 실패 시 빈 Mono)
+     */
+    Mono<String> fetchUserId(T token);
+}
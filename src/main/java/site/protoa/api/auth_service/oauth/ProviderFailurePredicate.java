@@ -0,0 +1,26 @@
+package site.protoa.api.auth_service.oauth;
+
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.util.function.Predicate;
+
+/**
+ * 프로바이더 Circuit Breaker의 실패 집계 기준 (resilience4j record-failure-predicate)
+ * 잘못된/만료된 인가 코드 같은 4xx 응답이나 요청 값 검증 실패(IllegalArgumentException)는
+ * 사용자 요청 문제이므로 실패로 세지 않는다.
+ * 429(요청 제한)와 5xx, 타임아웃/연결 오류는 프로바이더 장애로 본다.
+ */
+public class ProviderFailurePredicate implements Predicate<Throwable> {
+
+    @Override
+    public boolean test(Throwable throwable) {
+        if (throwable instanceof IllegalArgumentException) {
+            return false;
+        }
+        if (throwable instanceof WebClientResponseException responseException) {
+            return responseException.getStatusCode().is5xxServerError()
+                    || responseException.getStatusCode().value() == 429;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,158 @@
+package site.protoa.api.auth_service.session;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import site.protoa.api.auth_service.audit.AuditEventType;
+import site.protoa.api.auth_service.audit.AuditLog;
+import site.protoa.api.auth_service.auth.AuthCookies;
+import site.protoa.api.auth_service.jwt.JwtTokenProvider;
+import site.protoa.api.auth_service.jwt.TokenType;
+import site.protoa.api.auth_service.jwt.VerifiedToken;
+import site.protoa.api.auth_service.session.dto.SessionResponse;
+import site.protoa.api.auth_service.token.AccessTokenService;
+import site.protoa.api.auth_service.token.RefreshTokenEntity;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/auth/sessions")
+public class SessionController {
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final AccessTokenService accessTokenService;
+    private final SessionService sessionService;
+    private final AuditLog auditLog;
+    private final AuthCookies authCookies;
+
+    @Autowired
+    public SessionController(JwtTokenProvider jwtTokenProvider, AccessTokenService accessTokenService,
+            SessionService sessionService, AuditLog auditLog, AuthCookies authCookies) {
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.accessTokenService = accessTokenService;
+        this.sessionService = sessionService;
+        this.auditLog = auditLog;
+        this.authCookies = authCookies;
+    }
+
+    /**
+     * 로그인된 세션(기기) 목록
+     * 
+     * @param request HttpServletRequest (쿠키 읽기용)
+     * @return 세션 목록 (최근 사용 순, 현재 세션 표시)
+     */
+    @GetMapping
+    public ResponseEntity<?> getSessions(HttpServletRequest request) {
+        VerifiedToken verified = authenticate(request);
+        if (verified == null) {
+            return unauthorized();
+        }
+
+        List<SessionResponse> sessions = sessionService.getSessions(verified.getSubject()).stream()
+                .map(session -> SessionResponse.builder()
+                        .sessionId(session.getSessionId())
+                        .createdAt(session.getCreatedAt())
+                        .lastUsedAt(session.getLastUsedAt())
+                        .expiresAt(session.getExpiresAt())
+                        .current(session.getSessionId().equals(verified.getSessionId()))
+                        .build())
+                .toList();
+
+        return ResponseEntity.ok(Map.of("sessions", sessions));
+    }
+
+    /**
+     * 세션 종료 (다른 기기 로그아웃)
+     * 현재 세션을 종료하면 쿠키도 함께 삭제한다.
+     * 
+     * @param sessionId 종료할 세션 ID
+     * @param request   HttpServletRequest (쿠키 읽기용)
+     * @param response  HttpServletResponse (쿠키 삭제용)
+     * @return 종료 결과
+     */
+    @DeleteMapping("/{sessionId}")
+    public ResponseEntity<?> revokeSession(@PathVariable("sessionId") String sessionId,
+            HttpServletRequest request, HttpServletResponse response) {
+        VerifiedToken verified = authenticate(request);
+        if (verified == null) {
+            return unauthorized();
+        }
+
+        if (!sessionService.revokeSession(verified.getSubject(), sessionId)) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(Map.of(
+                            "error", "Not Found",
+                            "message", "세션을 찾을 수 없습니다."));
+        }
+        auditLog.record(AuditEventType.SESSION_REVOKED, null, verified.getSubject(), 0, sessionId);
+
+        if (sessionId.equals(verified.getSessionId())) {
+            authCookies.clear(response, AuthCookies.ACCESS_TOKEN);
+            authCookies.clear(response, AuthCookies.REFRESH_TOKEN);
+        }
+
+        Map<String, Object> responseBody = new HashMap<>();
+        responseBody.put("success", true);
+        responseBody.put("message", "세션이 종료되었습니다.");
+        return ResponseEntity.ok(responseBody);
+    }
+
+    /**
+     * 현재 세션을 제외한 모든 세션 종료
+     * 
+     * @param request HttpServletRequest (쿠키 읽기용)
+     * @return 종료된 세션 수
+     */
+    @DeleteMapping
+    public ResponseEntity<?> revokeOtherSessions(HttpServletRequest request) {
+        VerifiedToken verified = authenticate(request);
+        if (verified == null) {
+            return unauthorized();
+        }
+
+        int revoked = 0;
+        for (RefreshTokenEntity session : sessionService.getSessions(verified.getSubject())) {
+            if (!session.getSessionId().equals(verified.getSessionId())
+                    && sessionService.revokeSession(verified.getSubject(), session.getSessionId())) {
+                auditLog.record(AuditEventType.SESSION_REVOKED, null, verified.getSubject(), 0,
+                        session.getSessionId());
+                revoked++;
+            }
+        }
+
+        Map<String, Object> responseBody = new HashMap<>();
+        responseBody.put("success", true);
+        responseBody.put("revoked", revoked);
+        return ResponseEntity.ok(responseBody);
+    }
+
+    /**
+     * 쿠키의 Access Token 검증 (서명/만료/타입 + 저장된 토큰 확인)
+     * 
+     * @param request HttpServletRequest
+     * @return 검증된 토큰 또는 null
+     */
+    private VerifiedToken authenticate(HttpServletRequest request) {
+        String token = authCookies.read(request, AuthCookies.ACCESS_TOKEN);
+        if (token == null) {
+            return null;
+        }
+        VerifiedToken verified = jwtTokenProvider.verify(token, TokenType.ACCESS);
+        if (!verified.isValid() || !accessTokenService.isActiveToken(verified, token)) {
+            return null;
+        }
+        return verified;
+    }
+
+    private ResponseEntity<Map<String, String>> unauthorized() {
+        return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                .body(Map.of(
+                        "error", "Unauthorized",
+                        "message", "인증이 필요합니다."));
+    }
+}
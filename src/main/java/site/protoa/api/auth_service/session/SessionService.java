@@ -0,0 +1,86 @@
+package site.protoa.api.auth_service.session;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import site.protoa.api.auth_service.token.AccessTokenService;
+import site.protoa.api.auth_service.token.RefreshTokenEntity;
+import site.protoa.api.auth_service.token.RefreshTokenService;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 사용자 세션(기기별 로그인) 관리
+ * 세션 = 같은 sid를 가진 Access/Refresh Token 패밀리.
+ * Refresh Token 행(DB)이 세션 목록의 원본이며, 세션 종료 시 Redis의 Access Token도 함께 지운다.
+ */
+@Service
+public class SessionService {
+
+    private final AccessTokenService accessTokenService;
+    private final RefreshTokenService refreshTokenService;
+
+    @Value("${refresh-token.sessions.max-per-user:5}")
+    private int maxSessionsPerUser;
+
+    @Value("${refresh-token.sessions.reuse-grace:PT10S}")
+    private Duration reuseGrace;
+
+    @Autowired
+    public SessionService(AccessTokenService accessTokenService, RefreshTokenService refreshTokenService) {
+        this.accessTokenService = accessTokenService;
+        this.refreshTokenService = refreshTokenService;
+    }
+
+    /**
+     * 사용자의 활성 세션 목록 (최근 사용 순)
+     * 
+     * @param userId 사용자 ID
+     * @return 세션 목록
+     */
+    public List<RefreshTokenEntity> getSessions(String userId) {
+        return refreshTokenService.getSessions(userId);
+    }
+
+    /**
+     * 세션 종료 (Access Token + Refresh Token 삭제, 모든 노드에 폐기 시점 전파)
+     * 
+     * @param userId    사용자 ID
+     * @param sessionId 세션 ID
+     * @return 종료할 세션이 있었으면 true
+     */
+    public boolean revokeSession(String userId, String sessionId) {
+        accessTokenService.deleteToken(userId, sessionId);
+        return refreshTokenService.deleteSession(userId, sessionId);
+    }
+
+    /**
+     * 세션 수 제한 (refresh-token.sessions.max-per-user)
+     * 초과분은 가장 오래 사용하지 않은 세션부터 종료한다. 새 세션 저장 직후 호출한다.
+     * 
+     * @param userId 사용자 ID
+     * @return 종료된 세션 수
+     */
+    public int enforceSessionLimit(String userId) {
+        List<RefreshTokenEntity> sessions = refreshTokenService.getSessions(userId);
+        int evicted = 0;
+        for (int i = maxSessionsPerUser; i < sessions.size(); i++) {
+            if (revokeSession(userId, sessions.get(i).getSessionId())) {
+                evicted++;
+            }
+        }
+        return evicted;
+    }
+
+    /**
+     * 이미 회전된 Refresh Token이 다시 제출되었을 때, 동시 갱신(여러 탭)으로 볼 수 있는지 확인
+     * 유예 시간이 지난 재사용은 토큰 탈취로 보고 세션 전체를 종료한다.
+     * 
+     * @param rotatedAtMillis 회전 시각 epoch millis
+     * @return 유예 시간 이내면 true
+     */
+    public boolean isWithinReuseGrace(long rotatedAtMillis) {
+        return System.currentTimeMillis() - rotatedAtMillis <= reuseGrace.toMillis();
+    }
+}
@@ -0,0 +1,16 @@
+package site.protoa.api.auth_service.session.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+public class SessionResponse {
+    private String sessionId;
+    private LocalDateTime createdAt;
+    private LocalDateTime lastUsedAt;
+    private LocalDateTime expiresAt;
+    private boolean current;
+}
@@ -2,84 +2,327 @@ package site.protoa.api.auth_service.token;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
+import site.protoa.api.auth_service.jwt.JwtProperties;
+import site.protoa.api.auth_service.jwt.TokenDigest;
+import site.protoa.api.auth_service.jwt.VerifiedToken;
 
-import java.util.concurrent.TimeUnit;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
 
 /**
  * Access Token을 Upstash Redis에 저장/조회/삭제하는 서비스
+ * 
+ * 키 구조 (세션마다 하나의 Access Token):
+ * - access_token:{userId}:{sessionId} → Access Token
+ * - access_token_digest:{userId}:{sessionId} → 현재 토큰의 SHA-256 다이제스트
+ * - access_token_owner:{digest} → userId (역방향 인덱스)
+ * - refresh_rotation:{refresh digest} → 회전 시각 epoch millis (이미 회전된 Refresh Token 기록)
+ * 앞의 세 키는 Lua 스크립트로 함께 쓰고 지우며, 같은 TTL을 가진다.
+ * 
+ * 스크립트가 건드리는 키는 모두 KEYS로 넘긴다. 이전 토큰의 역방향 키처럼 저장된 값에 따라 정해지는 키는
+ * 호출 측이 예상 다이제스트로 키를 만들어 넘기고, 스크립트가 현재 값과 다르면 아무것도 쓰지 않고
+ * 현재 다이제스트를 돌려준다 (호출 측은 그 값으로 다시 시도). 세션 키와 역방향 키는 해시 슬롯이 달라
+ * Redis Cluster에서는 한 스크립트로 실행할 수 없다 (단일 샤드 Redis 전제).
+ * 
+ * 저장된 토큰이 교체/삭제될 때마다 세션 단위 폐기 시점을 TokenInvalidationBus로 발행해,
+ * STATELESS 검증 모드에서도 (모든 노드에서) 이전 토큰이 Redis 재확인 대상이 되도록 한다.
  */
 @Service
 public class AccessTokenService {
 
     private final RedisTemplate<String, String> redisTemplate;
+    private final JwtProperties jwtProperties;
+    private final UserRevocationRegistry userRevocationRegistry;
+    private final TokenRevocationStore tokenRevocationStore;
+    private final TokenInvalidationBus tokenInvalidationBus;
     private static final String TOKEN_PREFIX = "access_token:";
+    private static final String DIGEST_PREFIX = "access_token_digest:";
+    private static final String OWNER_PREFIX = "access_token_owner:";
+    private static final String ROTATION_PREFIX = "refresh_rotation:";
+
+    // 스크립트 결과: 예상과 다른 현재 다이제스트 ("MISMATCH:" 뒤, 없으면 빈 문자열)
+    private static final String MISMATCH = "MISMATCH:";
+    private static final String ALREADY_ROTATED = "ALREADY_ROTATED";
+    private static final String REPLACED = "REPLACED";
+    private static final int MAX_ATTEMPTS = 5;
+
+    // 저장된 다이제스트가 ARGV[5](예상 이전 다이제스트, 없으면 '')와 같을 때만 진행
+    private static final String CHECK_PREVIOUS_LUA = """
+            local previous = redis.call('GET', KEYS[2]) or ''
+            if previous ~= ARGV[5] then
+                return 'MISMATCH:' .. previous
+            end
+            """;
+
+    // 이전 역방향 키는 이전 다이제스트가 있을 때만 마지막 KEYS로 전달된다
+    private static final String WRITE_LUA = """
+            local replaced = previous ~= '' and previous ~= ARGV[2]
+            if replaced then
+                redis.call('DEL', KEYS[#KEYS])
+            end
+            redis.call('SET', KEYS[1], ARGV[1], 'EX', ARGV[4])
+            redis.call('SET', KEYS[2], ARGV[2], 'EX', ARGV[4])
+            redis.call('SET', KEYS[3], ARGV[3], 'EX', ARGV[4])
+            if replaced then
+                return 'REPLACED'
+            end
+            return 'SAVED'
+            """;
+
+    // KEYS: [토큰 키, 다이제스트 키, 새 역방향 키, (이전 역방향 키)]
+    // ARGV: [토큰, 다이제스트, userId, TTL(초), 예상 이전 다이제스트]
+    private static final RedisScript<String> SAVE_SCRIPT = new DefaultRedisScript<>(
+            CHECK_PREVIOUS_LUA + WRITE_LUA, String.class);
+
+    // SAVE_SCRIPT에 회전 기록(SET NX)을 추가한 스크립트
+    // KEYS[4]: 회전 기록 키 (이전 역방향 키는 KEYS[5]) / ARGV[6]: 회전 기록 TTL(초), ARGV[7]: 회전 시각
+    private static final RedisScript<String> ROTATE_SCRIPT = new DefaultRedisScript<>(CHECK_PREVIOUS_LUA + """
+            if not redis.call('SET', KEYS[4], ARGV[7], 'NX', 'EX', ARGV[6]) then
+                return 'ALREADY_ROTATED'
+            end
+            """ + WRITE_LUA, String.class);
+
+    // KEYS: [토큰 키, 다이제스트 키, (현재 역방향 키)] / ARGV: [예상 현재 다이제스트]
+    private static final RedisScript<String> DELETE_SCRIPT = new DefaultRedisScript<>("""
+            local current = redis.call('GET', KEYS[2]) or ''
+            if current ~= ARGV[1] then
+                return 'MISMATCH:' .. current
+            end
+            if current ~= '' then
+                redis.call('DEL', KEYS[3])
+            end
+            redis.call('DEL', KEYS[1], KEYS[2])
+            return 'DELETED'
+            """, String.class);
 
     @Autowired
-    public AccessTokenService(RedisTemplate<String, String> redisTemplate) {
+    public AccessTokenService(RedisTemplate<String, String> redisTemplate, JwtProperties jwtProperties,
+            UserRevocationRegistry userRevocationRegistry, TokenRevocationStore tokenRevocationStore,
+            TokenInvalidationBus tokenInvalidationBus) {
         this.redisTemplate = redisTemplate;
+        this.jwtProperties = jwtProperties;
+        this.userRevocationRegistry = userRevocationRegistry;
+        this.tokenRevocationStore = tokenRevocationStore;
+        this.tokenInvalidationBus = tokenInvalidationBus;
     }
 
     /**
      * Access Token을 Redis에 저장
+     * 이전 토큰의 역방향 인덱스는 같은 스크립트 안에서 제거된다.
      * 
      * @param userId            사용자 ID
+     * @param sessionId         세션 ID
      * @param token             Access Token
      * @param expirationSeconds 만료 시간 (초)
      */
-    public void saveToken(String userId, String token, long expirationSeconds) {
-        String key = TOKEN_PREFIX + userId;
-        redisTemplate.opsForValue().set(key, token, expirationSeconds, TimeUnit.SECONDS);
+    public void saveToken(String userId, String sessionId, String token, long expirationSeconds) {
+        String digest = TokenDigest.sha256Hex(token);
+        String sessionKey = sessionKey(userId, sessionId);
+        // 로그인은 새 세션이므로 이전 토큰이 없다고 보고 시작 (있으면 한 번 더 시도)
+        String result = execute(sessionKey, null, previousDigest -> redisTemplate.execute(SAVE_SCRIPT,
+                keys(sessionKey, digest, previousDigest),
+                token, digest, userId, String.valueOf(expirationSeconds), previousDigest));
+
+        // 기존 토큰을 교체한 경우에만 폐기 시점을 전파 (새 세션이면 폐기할 토큰이 없다)
+        // 새 토큰은 같은 초에 발급되므로 그 직전까지 발급된 토큰을 폐기 대상으로 기록
+        if (REPLACED.equals(result)) {
+            tokenInvalidationBus.publish(TokenInvalidationEvent.cutoff(
+                    TokenInvalidationEvent.Type.ROTATE, userId, sessionId, Instant.now().getEpochSecond() - 1));
+        }
+    }
+
+    /**
+     * 토큰 회전 (Redis 측 원자적 처리)
+     * 이전 Refresh Token을 "회전됨"으로 기록(SET NX)하고, 성공한 경우에만 Access Token을 교체한다.
+     * 요청에 실려 온 현재 Access Token이 저장된 토큰과 같으면 한 번의 왕복으로 처리되며,
+     * 같은 Refresh Token으로 동시에 갱신하면 하나의 요청만 성공한다.
+     * 
+     * @param userId                   사용자 ID
+     * @param sessionId                세션 ID
+     * @param previousRefreshToken     회전 대상 (이전) Refresh Token
+     * @param currentAccessToken       요청에 실려 온 Access Token (없으면 null, 저장된 토큰 추정용)
+     * @param newAccessToken           새 Access Token
+     * @param accessExpirationSeconds  새 Access Token 만료 시간 (초)
+     * @param rotationRecordSeconds    회전 기록 유지 시간 (초, 이전 Refresh Token의 남은 수명)
+     * @return 이 호출이 회전에 성공했으면 true, 다른 요청이 먼저 회전했으면 false
+     */
+    public boolean rotateToken(String userId, String sessionId, String previousRefreshToken,
+            String currentAccessToken, String newAccessToken, long accessExpirationSeconds,
+            long rotationRecordSeconds) {
+        String digest = TokenDigest.sha256Hex(newAccessToken);
+        String sessionKey = sessionKey(userId, sessionId);
+        String rotationKey = ROTATION_PREFIX + TokenDigest.sha256Hex(previousRefreshToken);
+        String expectedDigest = currentAccessToken != null ? TokenDigest.sha256Hex(currentAccessToken) : null;
+        String result = execute(sessionKey, expectedDigest, previousDigest -> {
+            List<String> keys = new ArrayList<>(List.of(
+                    TOKEN_PREFIX + sessionKey, DIGEST_PREFIX + sessionKey, OWNER_PREFIX + digest, rotationKey));
+            if (!previousDigest.isEmpty()) {
+                keys.add(OWNER_PREFIX + previousDigest);
+            }
+            return redisTemplate.execute(ROTATE_SCRIPT, keys,
+                    newAccessToken, digest, userId, String.valueOf(accessExpirationSeconds), previousDigest,
+                    String.valueOf(Math.max(1L, rotationRecordSeconds)), String.valueOf(System.currentTimeMillis()));
+        });
+        boolean rotated = !ALREADY_ROTATED.equals(result);
+        if (rotated) {
+            tokenInvalidationBus.publish(TokenInvalidationEvent.cutoff(
+                    TokenInvalidationEvent.Type.ROTATE, userId, sessionId, Instant.now().getEpochSecond() - 1));
+        }
+        return rotated;
+    }
+
+    /**
+     * 이미 회전된 Refresh Token의 회전 시각 조회 (재사용 탐지용)
+     * 
+     * @param refreshToken Refresh Token
+     * @return 회전 시각 epoch millis 또는 null (회전 기록 없음)
+     */
+    public Long getRotatedAt(String refreshToken) {
+        String rotatedAt = redisTemplate.opsForValue().get(ROTATION_PREFIX + TokenDigest.sha256Hex(refreshToken));
+        return rotatedAt != null ? Long.valueOf(rotatedAt) : null;
+    }
+
+    /**
+     * 회전 되돌리기 (회전 후 새 Refresh Token 저장에 실패했을 때)
+     * 회전 기록을 지우고, 이 회전으로 저장된 새 Access Token(클라이언트에 전달되지 않음)을
+     * 이전 Access Token으로 되돌린다. 이전 토큰을 모르거나 이미 만료됐으면 새 토큰만 삭제한다.
+     * 그 사이 다른 요청이 세션의 토큰을 바꿨으면 (다이제스트 불일치) Access Token은 그대로 둔다.
+     * 이전 Refresh Token이 DB에 그대로 남아 있으므로 클라이언트는 같은 토큰으로 다시 갱신할 수 있다.
+     * 
+     * @param userId                  사용자 ID
+     * @param sessionId               세션 ID
+     * @param previousRefreshToken    회전 대상이었던 Refresh Token
+     * @param previousAccessToken     요청에 실려 온 (같은 세션의) Access Token, 없으면 null
+     * @param previousAccessSeconds   이전 Access Token의 남은 수명 (초)
+     * @param newAccessToken          회전으로 저장된 새 Access Token
+     */
+    public void undoRotation(String userId, String sessionId, String previousRefreshToken,
+            String previousAccessToken, long previousAccessSeconds, String newAccessToken) {
+        String sessionKey = sessionKey(userId, sessionId);
+        String newDigest = TokenDigest.sha256Hex(newAccessToken);
+        if (previousAccessToken != null && previousAccessSeconds > 0) {
+            String previousDigest = TokenDigest.sha256Hex(previousAccessToken);
+            redisTemplate.execute(SAVE_SCRIPT, keys(sessionKey, previousDigest, newDigest),
+                    previousAccessToken, previousDigest, userId, String.valueOf(previousAccessSeconds), newDigest);
+        } else {
+            redisTemplate.execute(DELETE_SCRIPT, keys(sessionKey, null, newDigest), newDigest);
+        }
+        redisTemplate.delete(ROTATION_PREFIX + TokenDigest.sha256Hex(previousRefreshToken));
     }
 
     /**
      * Access Token을 Redis에서 조회
      * 
-     * @param userId 사용자 ID
+     * @param userId    사용자 ID
+     * @param sessionId 세션 ID
      * @return Access Token 또는 null
      */
-    public String getToken(String userId) {
-        String key = TOKEN_PREFIX + userId;
-        return redisTemplate.opsForValue().get(key);
+    public String getToken(String userId, String sessionId) {
+        return redisTemplate.opsForValue().get(TOKEN_PREFIX + sessionKey(userId, sessionId));
+    }
+
+    /**
+     * 세션의 Access Token을 Redis에서 삭제 (역방향 인덱스 포함)
+     * 
+     * @param userId    사용자 ID
+     * @param sessionId 세션 ID
+     */
+    public void deleteToken(String userId, String sessionId) {
+        String sessionKey = sessionKey(userId, sessionId);
+        execute(sessionKey, null, currentDigest -> redisTemplate.execute(DELETE_SCRIPT,
+                keys(sessionKey, null, currentDigest), currentDigest));
+
+        tokenInvalidationBus.publish(TokenInvalidationEvent.cutoff(
+                TokenInvalidationEvent.Type.LOGOUT, userId, sessionId, Instant.now().getEpochSecond()));
     }
 
     /**
-     * Access Token을 Redis에서 삭제
+     * 검증된 Access Token이 현재 유효한(저장된) 토큰인지 확인
+     * 폐기 목록(TokenRevocationStore)에 있는 토큰은 모드와 관계없이 거부한다.
+     * REDIS 모드: 항상 Redis에 저장된 (세션의) 토큰과 비교
+     * STATELESS 모드: 이 노드가 알고 있는 사용자/세션의 마지막 폐기 시점 이전에 발급된 토큰만 Redis와 비교
      * 
-     * @param userId 사용자 ID
+     * @param verified 서명/만료 검증이 끝난 토큰
+     * @param token    Access Token 원문
+     * @return 유효 여부
      */
-    public void deleteToken(String userId) {
-        String key = TOKEN_PREFIX + userId;
-        redisTemplate.delete(key);
+    public boolean isActiveToken(VerifiedToken verified, String token) {
+        if (tokenRevocationStore.isRevoked(TokenDigest.sha256Hex(token))) {
+            return false;
+        }
+
+        String userId = verified.getSubject();
+        String sessionId = verified.getSessionId();
+        if (jwtProperties.getValidationMode() == JwtProperties.ValidationMode.STATELESS
+                && !userRevocationRegistry.requiresStoreCheck(userId, sessionId, verified.getIssuedAt())) {
+            return true;
+        }
+
+        String storedToken = getToken(userId, sessionId);
+        return storedToken != null && storedToken.equals(token);
     }
 
     /**
-     * Access Token 존재 여부 확인
+     * 세션의 Access Token 존재 여부 확인
      * 
-     * @param userId 사용자 ID
+     * @param userId    사용자 ID
+     * @param sessionId 세션 ID
      * @return 존재 여부
      */
-    public boolean existsToken(String userId) {
-        String key = TOKEN_PREFIX + userId;
-        return Boolean.TRUE.equals(redisTemplate.hasKey(key));
+    public boolean existsToken(String userId, String sessionId) {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(TOKEN_PREFIX + sessionKey(userId, sessionId)));
     }
 
     /**
      * 토큰으로 사용자 ID 조회 (역방향 조회)
-     * 주의: 이 방법은 모든 키를 스캔하므로 성능이 좋지 않습니다.
-     * 대신 토큰에 userId를 포함시키는 것을 권장합니다.
+     * 역방향 인덱스(access_token_owner:{digest})를 한 번 조회한다.
      * 
      * @param token Access Token
      * @return 사용자 ID 또는 null
      */
     public String getUserIdByToken(String token) {
-        // Redis에서 모든 access_token:* 키를 스캔하여 값이 일치하는 키 찾기
-        // 성능상 권장하지 않지만, 필요시 사용 가능
-        String pattern = TOKEN_PREFIX + "*";
-        return redisTemplate.keys(pattern).stream()
-                .filter(key -> token.equals(redisTemplate.opsForValue().get(key)))
-                .map(key -> key.toString().replace(TOKEN_PREFIX, ""))
-                .findFirst()
-                .orElse(null);
+        return redisTemplate.opsForValue().get(OWNER_PREFIX + TokenDigest.sha256Hex(token));
+    }
+
+    private static String sessionKey(String userId, String sessionId) {
+        return userId + ":" + sessionId;
+    }
+
+    // [토큰 키, 다이제스트 키, (새 역방향 키), (현재/이전 역방향 키)]
+    private static List<String> keys(String sessionKey, String newDigest, String currentDigest) {
+        List<String> keys = new ArrayList<>(List.of(TOKEN_PREFIX + sessionKey, DIGEST_PREFIX + sessionKey));
+        if (newDigest != null) {
+            keys.add(OWNER_PREFIX + newDigest);
+        }
+        if (!currentDigest.isEmpty()) {
+            keys.add(OWNER_PREFIX + currentDigest);
+        }
+        return keys;
+    }
+
+    /**
+     * 세션의 현재 다이제스트를 예상값으로 스크립트 실행
+     * 예상이 틀리면 스크립트가 알려준 현재 다이제스트로 다시 시도한다.
+     * 
+     * @param sessionKey     세션 키 (오류 메시지용)
+     * @param expectedDigest 예상 현재 다이제스트 (null이면 저장된 토큰 없음으로 가정)
+     * @param script         예상 다이제스트('' = 없음)를 받아 스크립트를 실행하는 함수
+     * @return MISMATCH가 아닌 스크립트 결과
+     */
+    private String execute(String sessionKey, String expectedDigest, Function<String, String> script) {
+        String expected = expectedDigest != null ? expectedDigest : "";
+        for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+            String result = script.apply(expected);
+            if (result == null || !result.startsWith(MISMATCH)) {
+                return result;
+            }
+            expected = result.substring(MISMATCH.length());
+        }
+        throw new IllegalStateException("Access Token이 동시에 계속 변경되어 반영하지 못했습니다: " + sessionKey);
     }
 }
@@ -0,0 +1,68 @@
+package site.protoa.api.auth_service.token;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * SHA-256 hex 다이제스트 전용 Bloom filter
+ * 다이제스트 자체가 균등 분포이므로 앞 128비트를 두 개의 해시로 사용한다 (double hashing).
+ * 비트 설정/조회는 AtomicLongArray로 처리해 락 없이 동시에 읽을 수 있다.
+ */
+class BloomFilter {
+
+    private final AtomicLongArray bits;
+    private final long bitCount;
+    private final int hashCount;
+
+    /**
+     * @param expectedInsertions 예상 원소 수
+     * @param falsePositiveRate  허용 오탐률 (0 < p < 1)
+     */
+    BloomFilter(long expectedInsertions, double falsePositiveRate) {
+        long n = Math.max(1L, expectedInsertions);
+        long m = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        int words = (int) Math.max(1L, (m + 63) / 64);
+        this.bits = new AtomicLongArray(words);
+        this.bitCount = (long) words * 64;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / n * Math.log(2)));
+    }
+
+    /**
+     * 다이제스트 추가
+     * 
+     * @param digest 64자 hex 다이제스트
+     */
+    void put(String digest) {
+        long h1 = Long.parseUnsignedLong(digest, 0, 16, 16);
+        long h2 = Long.parseUnsignedLong(digest, 16, 32, 16);
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Long.remainderUnsigned(h1 + i * h2, bitCount);
+            int word = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long current;
+            do {
+                current = bits.get(word);
+                if ((current & mask) != 0) {
+                    break;
+                }
+            } while (!bits.compareAndSet(word, current, current | mask));
+        }
+    }
+
+    /**
+     * 포함 가능성 확인 (false면 확실히 없음)
+     * 
+     * @param digest 64자 hex 다이제스트
+     * @return 포함되어 있을 수 있으면 true
+     */
+    boolean mightContain(String digest) {
+        long h1 = Long.parseUnsignedLong(digest, 0, 16, 16);
+        long h2 = Long.parseUnsignedLong(digest, 16, 32, 16);
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Long.remainderUnsigned(h1 + i * h2, bitCount);
+            if ((bits.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
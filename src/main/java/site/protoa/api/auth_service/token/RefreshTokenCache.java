@@ -0,0 +1,274 @@
+package site.protoa.api.auth_service.token;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 활성 Refresh Token 캐시 (Redis, DB 앞단)
+ * 
+ * 키 구조:
+ * - refresh_token:{digest} → {userId}:{sessionId} (토큰 남은 수명만큼 TTL)
+ * - refresh_token_session:{userId}:{sessionId} → 세션의 현재 토큰 digest (교체 시 이전 키 제거용)
+ * 
+ * DB가 원본이며 이 캐시는 write-through로만 채운다.
+ * 저장/조회 중 Redis 오류는 삼키고 DB 조회로 넘어가지만, 제거(evict/evictSession) 오류는 호출자에게 전파한다.
+ * (제거에 실패한 토큰이 캐시 히트로 계속 통과되지 않도록 삭제 흐름을 중단시킨다)
+ * 
+ * 스크립트가 건드리는 키는 모두 KEYS로 넘긴다. 저장된 값에 따라 정해지는 키(세션의 이전 토큰 키,
+ * 토큰의 세션 키)는 예상값으로 만들어 넘기고, 스크립트가 현재 값과 다르면 아무것도 바꾸지 않고
+ * 현재 값을 돌려준다 (그 값으로 다시 시도). 토큰 키와 세션 키는 해시 슬롯이 달라
+ * Redis Cluster에서는 한 스크립트로 실행할 수 없다 (단일 샤드 Redis 전제).
+ */
+@Component
+public class RefreshTokenCache {
+
+    private static final Logger log = LoggerFactory.getLogger(RefreshTokenCache.class);
+
+    private static final String TOKEN_PREFIX = "refresh_token:";
+    private static final String SESSION_PREFIX = "refresh_token_session:";
+
+    // 스크립트 결과: 예상과 다른 현재 값 ("MISMATCH:" 뒤, 없으면 빈 문자열)
+    private static final String MISMATCH = "MISMATCH:";
+    private static final int MAX_ATTEMPTS = 5;
+
+    // KEYS: [세션 키, 새 토큰 키, (이전 토큰 키)] / ARGV: [digest, 세션 식별자, TTL(초), 예상 이전 digest]
+    private static final RedisScript<String> PUT_SCRIPT = new DefaultRedisScript<>("""
+            local previous = redis.call('GET', KEYS[1]) or ''
+            if previous ~= ARGV[4] then
+                return 'MISMATCH:' .. previous
+            end
+            if previous ~= '' and previous ~= ARGV[1] then
+                redis.call('DEL', KEYS[3])
+            end
+            redis.call('SET', KEYS[2], ARGV[2], 'EX', ARGV[3])
+            redis.call('SET', KEYS[1], ARGV[1], 'EX', ARGV[3])
+            return 'OK'
+            """, String.class);
+
+    // DB에서 읽은 값으로 채울 때: 그 사이 더 새로운 토큰이 저장된 세션은 건너뜀 (여러 건을 한 번에 처리)
+    // KEYS: [세션 키, 토큰 키] * n / ARGV: [digest, 세션 식별자, TTL(초)] * n → 채운 건수
+    private static final RedisScript<Long> BACKFILL_SCRIPT = new DefaultRedisScript<>("""
+            local written = 0
+            for i = 1, #KEYS / 2 do
+                local sessionKey, tokenKey = KEYS[2 * i - 1], KEYS[2 * i]
+                local digest, session, ttl = ARGV[3 * i - 2], ARGV[3 * i - 1], ARGV[3 * i]
+                local current = redis.call('GET', sessionKey)
+                if not current or current == digest then
+                    redis.call('SET', tokenKey, session, 'EX', ttl)
+                    redis.call('SET', sessionKey, digest, 'EX', ttl)
+                    written = written + 1
+                end
+            end
+            return written
+            """, Long.class);
+
+    // KEYS: [토큰 키, (세션 키)] / ARGV: [digest, 예상 세션 식별자]
+    private static final RedisScript<String> EVICT_SCRIPT = new DefaultRedisScript<>("""
+            local session = redis.call('GET', KEYS[1]) or ''
+            if session ~= ARGV[2] then
+                return 'MISMATCH:' .. session
+            end
+            redis.call('DEL', KEYS[1])
+            if session ~= '' and redis.call('GET', KEYS[2]) == ARGV[1] then
+                redis.call('DEL', KEYS[2])
+            end
+            return 'OK'
+            """, String.class);
+
+    // KEYS: [세션 키, (현재 토큰 키)] / ARGV: [예상 현재 digest]
+    private static final RedisScript<String> EVICT_SESSION_SCRIPT = new DefaultRedisScript<>("""
+            local current = redis.call('GET', KEYS[1]) or ''
+            if current ~= ARGV[1] then
+                return 'MISMATCH:' .. current
+            end
+            if current ~= '' then
+                redis.call('DEL', KEYS[2])
+            end
+            redis.call('DEL', KEYS[1])
+            return 'OK'
+            """, String.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    @Value("${refresh-token.cache.enabled:true}")
+    private boolean enabled;
+
+    @Autowired
+    public RefreshTokenCache(RedisTemplate<String, String> redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 새 토큰 저장 (세션의 이전 토큰 키는 함께 제거)
+     * 
+     * @param userId         사용자 ID
+     * @param sessionId      세션 ID
+     * @param digest         토큰 다이제스트
+     * @param ttlSeconds     토큰 남은 수명 (초)
+     * @param previousDigest 세션의 이전 토큰 다이제스트 (새 세션이면 null)
+     */
+    public void put(String userId, String sessionId, String digest, long ttlSeconds, String previousDigest) {
+        String session = session(userId, sessionId);
+        run(previousDigest, previous -> redisTemplate.execute(PUT_SCRIPT,
+                keys(SESSION_PREFIX + session, TOKEN_PREFIX + digest, TOKEN_PREFIX, previous),
+                digest, session, String.valueOf(Math.max(1L, ttlSeconds)), previous));
+    }
+
+    /**
+     * DB 조회 결과로 캐시 채우기 (더 새로운 토큰이 이미 있으면 무시)
+     * 
+     * @param userId     사용자 ID
+     * @param sessionId  세션 ID
+     * @param digest     토큰 다이제스트
+     * @param ttlSeconds 토큰 남은 수명 (초)
+     */
+    public void backfill(String userId, String sessionId, String digest, long ttlSeconds) {
+        backfill(List.of(new Entry(userId, sessionId, digest, ttlSeconds)));
+    }
+
+    /**
+     * DB 조회 결과 여러 건으로 캐시 채우기 (한 번의 스크립트 호출, 실패해도 로그만 남김)
+     * 
+     * @param entries 채울 토큰 목록 (남은 수명이 없는 항목은 건너뜀)
+     */
+    public void backfill(List<Entry> entries) {
+        if (!enabled) {
+            return;
+        }
+        List<String> keys = new ArrayList<>(entries.size() * 2);
+        List<String> args = new ArrayList<>(entries.size() * 3);
+        for (Entry entry : entries) {
+            if (entry.ttlSeconds() <= 0) {
+                continue;
+            }
+            String session = session(entry.userId(), entry.sessionId());
+            keys.add(SESSION_PREFIX + session);
+            keys.add(TOKEN_PREFIX + entry.digest());
+            args.add(entry.digest());
+            args.add(session);
+            args.add(String.valueOf(entry.ttlSeconds()));
+        }
+        if (keys.isEmpty()) {
+            return;
+        }
+        try {
+            redisTemplate.execute(BACKFILL_SCRIPT, keys, args.toArray());
+        } catch (Exception e) {
+            log.warn("Refresh Token 캐시 갱신 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 캐시에 활성 토큰으로 있는지 확인
+     * 
+     * @param digest 토큰 다이제스트
+     * @return 캐시 히트면 true (미스/오류면 false - DB를 조회해야 함)
+     */
+    public boolean contains(String digest) {
+        if (!enabled) {
+            return false;
+        }
+        try {
+            return redisTemplate.opsForValue().get(TOKEN_PREFIX + digest) != null;
+        } catch (Exception e) {
+            log.warn("Refresh Token 캐시 조회 실패, DB로 대체: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * 토큰 제거 (Redis 오류는 전파)
+     * 
+     * @param digest 토큰 다이제스트
+     */
+    public void evict(String digest) {
+        execute(null, session -> redisTemplate.execute(EVICT_SCRIPT,
+                keys(TOKEN_PREFIX + digest, null, SESSION_PREFIX, session), digest, session));
+    }
+
+    /**
+     * 세션의 현재 토큰 제거 (Redis 오류는 전파)
+     * 
+     * @param userId    사용자 ID
+     * @param sessionId 세션 ID
+     */
+    public void evictSession(String userId, String sessionId) {
+        String sessionKey = SESSION_PREFIX + session(userId, sessionId);
+        execute(null, current -> redisTemplate.execute(EVICT_SESSION_SCRIPT,
+                keys(sessionKey, null, TOKEN_PREFIX, current), current));
+    }
+
+    /**
+     * 캐시에 채울 토큰
+     * 
+     * @param userId     사용자 ID
+     * @param sessionId  세션 ID
+     * @param digest     토큰 다이제스트
+     * @param ttlSeconds 토큰 남은 수명 (초)
+     */
+    public record Entry(String userId, String sessionId, String digest, long ttlSeconds) {
+    }
+
+    private static String session(String userId, String sessionId) {
+        return userId + ":" + sessionId;
+    }
+
+    // [고정 키, (추가 키), (저장된 값으로 정해지는 키 - 값이 있을 때만)]
+    private static List<String> keys(String key, String extraKey, String valuePrefix, String value) {
+        List<String> keys = new ArrayList<>();
+        keys.add(key);
+        if (extraKey != null) {
+            keys.add(extraKey);
+        }
+        if (!value.isEmpty()) {
+            keys.add(valuePrefix + value);
+        }
+        return keys;
+    }
+
+    /**
+     * 캐시 채우기용 실행 (실패해도 DB가 원본이므로 로그만 남김)
+     */
+    private void run(String expected, Function<String, String> script) {
+        try {
+            execute(expected, script);
+        } catch (Exception e) {
+            log.warn("Refresh Token 캐시 갱신 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 예상값으로 스크립트 실행 (예상이 틀리면 스크립트가 알려준 현재 값으로 다시 시도)
+     * 
+     * @param expected 예상 현재 값 (null이면 없음으로 가정)
+     * @param script   예상값('' = 없음)을 받아 스크립트를 실행하는 함수
+     */
+    private void execute(String expected, Function<String, String> script) {
+        if (!enabled) {
+            return;
+        }
+        String current = expected != null ? expected : "";
+        for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+            String result = script.apply(current);
+            if (result == null || !result.startsWith(MISMATCH)) {
+                return;
+            }
+            current = result.substring(MISMATCH.length());
+        }
+        throw new IllegalStateException("Refresh Token 캐시가 동시에 계속 변경되어 반영하지 못했습니다.");
+    }
+}
@@ -0,0 +1,84 @@
+package site.protoa.api.auth_service.token;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 시작 시 활성 Refresh Token을 Redis 캐시에 미리 채우는 작업
+ * 요청 처리를 막지 않도록 스케줄러 스레드에서 키셋 페이지 단위로 읽고, 페이지마다 한 번의 스크립트 호출로 채운다.
+ * 이미 더 새로운 토큰이 캐시에 있는 세션은 건너뛴다 (RefreshTokenCache.backfill).
+ */
+@Component
+public class RefreshTokenCacheWarmer {
+
+    private static final Logger log = LoggerFactory.getLogger(RefreshTokenCacheWarmer.class);
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final RefreshTokenCache refreshTokenCache;
+    private final TaskScheduler taskScheduler;
+
+    @Value("${refresh-token.cache.warm-up.enabled:true}")
+    private boolean enabled;
+
+    @Value("${refresh-token.cache.warm-up.page-size:500}")
+    private int pageSize;
+
+    @Value("${refresh-token.cache.warm-up.max-entries:100000}")
+    private int maxEntries;
+
+    @Autowired
+    public RefreshTokenCacheWarmer(RefreshTokenRepository refreshTokenRepository,
+            RefreshTokenCache refreshTokenCache, TaskScheduler taskScheduler) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.refreshTokenCache = refreshTokenCache;
+        this.taskScheduler = taskScheduler;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (enabled && refreshTokenCache.isEnabled()) {
+            taskScheduler.schedule(this::warmUp, Instant.now());
+        }
+    }
+
+    void warmUp() {
+        long started = System.currentTimeMillis();
+        int loaded = 0;
+        long lastId = 0L;
+
+        try {
+            while (loaded < maxEntries) {
+                LocalDateTime now = LocalDateTime.now();
+                List<RefreshTokenEntity> page = refreshTokenRepository
+                        .findByExpiresAtAfterAndIdGreaterThanOrderByIdAsc(now, lastId, Limit.of(pageSize));
+                List<RefreshTokenCache.Entry> entries = new ArrayList<>(page.size());
+                for (RefreshTokenEntity entity : page) {
+                    entries.add(new RefreshTokenCache.Entry(entity.getUserId(), entity.getSessionId(),
+                            entity.getTokenHash(), Duration.between(now, entity.getExpiresAt()).getSeconds()));
+                    lastId = entity.getId();
+                }
+                refreshTokenCache.backfill(entries); // 페이지당 Redis 왕복 1회
+                loaded += page.size();
+                if (page.size() < pageSize) {
+                    break;
+                }
+            }
+            log.info("Refresh Token 캐시 예열 완료: {}건, {}ms", loaded, System.currentTimeMillis() - started);
+        } catch (Exception e) {
+            log.warn("Refresh Token 캐시 예열 중단 ({}건 처리): {}", loaded, e.getMessage());
+        }
+    }
+}
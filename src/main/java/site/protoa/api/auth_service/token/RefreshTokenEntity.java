@@ -5,30 +5,47 @@ import java.time.LocalDateTime;
 
 /**
  * Refresh Token을 Neon DB에 저장하는 엔티티
+ * 세션(기기)마다 한 행을 유지한다 ((user_id, session_id) 유니크, 로그인 시 INSERT / 갱신 시 조건부 UPDATE).
+ * 같은 세션에서 회전된 토큰은 같은 행을 덮어쓴다 (토큰 패밀리).
+ * 토큰 원문은 저장하지 않고 SHA-256 다이제스트(token_hash)로 조회한다.
+ * 스키마는 Flyway 마이그레이션(db/migration)으로 관리한다.
  */
 @Entity
-@Table(name = "refresh_tokens")
+@Table(name = "refresh_tokens", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_refresh_tokens_user_session", columnNames = { "user_id", "session_id" }),
+        @UniqueConstraint(name = "uk_refresh_tokens_token_hash", columnNames = "token_hash")
+}, indexes = {
+        @Index(name = "idx_refresh_tokens_expires_at", columnList = "expires_at"),
+        @Index(name = "idx_refresh_tokens_user_last_used", columnList = "user_id, last_used_at DESC")
+})
 public class RefreshTokenEntity {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @Column(nullable = false, unique = true, length = 500)
-    private String token;
+    @Column(name = "token_hash", nullable = false, length = 64)
+    private String tokenHash;
 
     @Column(nullable = false, length = 100)
     private String userId;
 
+    @Column(nullable = false, length = 64)
+    private String sessionId;
+
     @Column(nullable = false)
     private LocalDateTime expiresAt;
 
     @Column(nullable = false)
     private LocalDateTime createdAt;
 
+    @Column(nullable = false)
+    private LocalDateTime lastUsedAt;
+
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
+        lastUsedAt = createdAt;
     }
 
     // Getters and Setters
@@ -40,12 +57,12 @@ public class RefreshTokenEntity {
         this.id = id;
     }
 
-    public String getToken() {
-        return token;
+    public String getTokenHash() {
+        return tokenHash;
     }
 
-    public void setToken(String token) {
-        this.token = token;
+    public void setTokenHash(String tokenHash) {
+        this.tokenHash = tokenHash;
     }
 
     public String getUserId() {
@@ -56,6 +73,14 @@ public class RefreshTokenEntity {
         this.userId = userId;
     }
 
+    public String getSessionId() {
+        return sessionId;
+    }
+
+    public void setSessionId(String sessionId) {
+        this.sessionId = sessionId;
+    }
+
     public LocalDateTime getExpiresAt() {
         return expiresAt;
     }
@@ -71,4 +96,12 @@ public class RefreshTokenEntity {
     public void setCreatedAt(LocalDateTime createdAt) {
         this.createdAt = createdAt;
     }
+
+    public LocalDateTime getLastUsedAt() {
+        return lastUsedAt;
+    }
+
+    public void setLastUsedAt(LocalDateTime lastUsedAt) {
+        this.lastUsedAt = lastUsedAt;
+    }
 }
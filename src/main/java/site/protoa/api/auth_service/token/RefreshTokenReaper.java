@@ -0,0 +1,148 @@
+package site.protoa.api.auth_service.token;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 만료된 Refresh Token 정리 작업
+ * 
+ * - Redis 리스(refresh_token_reaper:lease)를 얻은 노드 하나만 실행한다.
+ * - refresh-token.reaper.batch-size 단위로 나눠 삭제하고, 배치 사이에 잠시 쉬어 DB 부하를 분산한다.
+ * - 한 번 실행에서 max-batches까지만 처리하고 나머지는 다음 실행으로 넘긴다.
+ * 
+ * 지표: refresh_token.reaper.deleted (삭제 행 수), refresh_token.reaper.batch (배치 지연),
+ * refresh_token.reaper.backlog (실행 종료 시점의 남은 만료 행 수)
+ */
+@Component
+public class RefreshTokenReaper {
+
+    private static final Logger log = LoggerFactory.getLogger(RefreshTokenReaper.class);
+
+    private static final String LEASE_KEY = "refresh_token_reaper:lease";
+
+    // 리스 소유자인 경우에만 연장/해제
+    private static final RedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            end
+            return 0
+            """, Long.class);
+
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+
+    @Value("${refresh-token.reaper.enabled:true}")
+    private boolean enabled;
+
+    @Value("${refresh-token.reaper.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${refresh-token.reaper.max-batches:100}")
+    private int maxBatches;
+
+    @Value("${refresh-token.reaper.pause:PT0.2S}")
+    private Duration pause;
+
+    @Value("${refresh-token.reaper.lease:PT5M}")
+    private Duration lease;
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final AtomicLong backlog = new AtomicLong();
+    private final Counter deletedRows;
+    private final Timer batchTimer;
+
+    @Autowired
+    public RefreshTokenReaper(RefreshTokenRepository refreshTokenRepository,
+            RedisTemplate<String, String> redisTemplate, MeterRegistry meterRegistry) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.redisTemplate = redisTemplate;
+        this.deletedRows = Counter.builder("refresh_token.reaper.deleted")
+                .description("정리된 만료 Refresh Token 행 수")
+                .register(meterRegistry);
+        this.batchTimer = Timer.builder("refresh_token.reaper.batch")
+                .description("만료 Refresh Token 배치 삭제 소요 시간")
+                .register(meterRegistry);
+        Gauge.builder("refresh_token.reaper.backlog", backlog, AtomicLong::get)
+                .description("마지막 실행 종료 시점에 남아 있던 만료 Refresh Token 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 만료 토큰 정리 실행 (리스를 얻지 못하면 다른 노드가 실행 중이므로 건너뜀)
+     */
+    @Scheduled(initialDelayString = "${refresh-token.reaper.initial-delay:PT1M}", fixedDelayString = "${refresh-token.reaper.interval:PT10M}")
+    public void reap() {
+        if (!enabled || !acquireLease()) {
+            return;
+        }
+
+        try {
+            for (int batch = 0; batch < maxBatches; batch++) {
+                LocalDateTime now = LocalDateTime.now();
+                Timer.Sample sample = Timer.start();
+                int deleted = refreshTokenRepository.deleteExpiredBatch(now, batchSize);
+                sample.stop(batchTimer);
+                deletedRows.increment(deleted);
+
+                if (deleted < batchSize || !renewLease()) {
+                    break;
+                }
+                Thread.sleep(pause.toMillis());
+            }
+            backlog.set(refreshTokenRepository.countByExpiresAtBefore(LocalDateTime.now()));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.warn("만료 Refresh Token 정리 실패: {}", e.getMessage());
+        } finally {
+            releaseLease();
+        }
+    }
+
+    private boolean acquireLease() {
+        try {
+            return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(LEASE_KEY, nodeId, lease));
+        } catch (Exception e) {
+            log.warn("Refresh Token 정리 리스 획득 실패: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private boolean renewLease() {
+        Long renewed = redisTemplate.execute(RENEW_SCRIPT, List.of(LEASE_KEY), nodeId,
+                String.valueOf(lease.toMillis()));
+        return Long.valueOf(1L).equals(renewed);
+    }
+
+    private void releaseLease() {
+        try {
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(LEASE_KEY), nodeId);
+        } catch (Exception e) {
+            // 해제 실패 시 리스는 TTL로 만료됨
+        }
+    }
+}
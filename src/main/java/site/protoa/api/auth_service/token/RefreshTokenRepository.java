@@ -1,12 +1,15 @@
 package site.protoa.api.auth_service.token;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -16,41 +19,148 @@ import java.util.Optional;
 public interface RefreshTokenRepository extends JpaRepository<RefreshTokenEntity, Long> {
 
     /**
-     * 토큰으로 Refresh Token 조회
+     * 새 세션의 Refresh Token 저장 (로그인 전용, 단일 INSERT)
+     * 같은 세션 행이 이미 있으면 유니크 제약 위반으로 실패한다. (세션 ID는 로그인마다 새로 발급)
      * 
-     * @param token Refresh Token
+     * @param userId    사용자 ID
+     * @param sessionId 세션 ID
+     * @param tokenHash Refresh Token 다이제스트
+     * @param expiresAt 만료 시간
+     * @param now       현재 시간 (created_at / last_used_at)
+     * @return 반영된 행 수
+     */
+    @Modifying
+    @Transactional
+    @Query(value = """
+            INSERT INTO refresh_tokens (token_hash, user_id, session_id, expires_at, created_at, last_used_at)
+            VALUES (:tokenHash, :userId, :sessionId, :expiresAt, :now, :now)
+            """, nativeQuery = true)
+    int insertSession(@Param("userId") String userId, @Param("sessionId") String sessionId,
+            @Param("tokenHash") String tokenHash, @Param("expiresAt") LocalDateTime expiresAt,
+            @Param("now") LocalDateTime now);
+
+    /**
+     * 세션 Refresh Token 회전 (조건부 UPDATE)
+     * 세션 행의 현재 토큰이 제출된 (이전) 토큰이고 만료되지 않았을 때만 새 토큰으로 교체한다.
+     * created_at(세션 시작 시각)은 유지하고 last_used_at만 갱신한다.
+     * 
+     * @param userId       사용자 ID
+     * @param sessionId    세션 ID
+     * @param previousHash 이전 Refresh Token 다이제스트
+     * @param tokenHash    새 Refresh Token 다이제스트
+     * @param expiresAt    새 토큰 만료 시간
+     * @param now          현재 시간
+     * @return 반영된 행 수 (0이면 이미 회전되었거나 폐기/만료된 토큰)
+     */
+    @Modifying
+    @Transactional
+    @Query(value = """
+            UPDATE refresh_tokens
+            SET token_hash = :tokenHash,
+                expires_at = :expiresAt,
+                last_used_at = :now
+            WHERE user_id = :userId
+              AND session_id = :sessionId
+              AND token_hash = :previousHash
+              AND expires_at > :now
+            """, nativeQuery = true)
+    int rotateBySession(@Param("userId") String userId, @Param("sessionId") String sessionId,
+            @Param("previousHash") String previousHash, @Param("tokenHash") String tokenHash,
+            @Param("expiresAt") LocalDateTime expiresAt, @Param("now") LocalDateTime now);
+
+    /**
+     * 토큰 다이제스트로 만료되지 않은 Refresh Token 조회
+     * 
+     * @param tokenHash Refresh Token 다이제스트
+     * @param now       현재 시간 (expires_at > now 인 행만 조회)
      * @return RefreshTokenEntity
      */
-    Optional<RefreshTokenEntity> findByToken(String token);
+    Optional<RefreshTokenEntity> findByTokenHashAndExpiresAtAfter(String tokenHash, LocalDateTime now);
 
     /**
-     * 사용자 ID로 Refresh Token 조회
+     * 사용자의 만료되지 않은 세션 목록 (최근 사용 순)
+     * idx_refresh_tokens_user_last_used 인덱스를 사용한다.
      * 
      * @param userId 사용자 ID
-     * @return RefreshTokenEntity
+     * @param now    현재 시간 (expires_at > now 인 행만 조회)
+     * @return RefreshTokenEntity 목록
+     */
+    List<RefreshTokenEntity> findByUserIdAndExpiresAtAfterOrderByLastUsedAtDesc(String userId, LocalDateTime now);
+
+    /**
+     * 사용자의 모든 세션 (만료 여부와 무관, 전체 삭제 시 캐시 정리용)
+     * 
+     * @param userId 사용자 ID
+     * @return RefreshTokenEntity 목록
      */
-    Optional<RefreshTokenEntity> findByUserId(String userId);
+    List<RefreshTokenEntity> findByUserId(String userId);
 
     /**
-     * 토큰 삭제
+     * 만료되지 않은 Refresh Token을 id 순으로 조회 (키셋 페이지네이션, 캐시 예열용)
      * 
-     * @param token Refresh Token
+     * @param now    현재 시간
+     * @param lastId 이전 페이지의 마지막 id
+     * @param limit  페이지 크기
+     * @return RefreshTokenEntity 목록
      */
-    void deleteByToken(String token);
+    List<RefreshTokenEntity> findByExpiresAtAfterAndIdGreaterThanOrderByIdAsc(LocalDateTime now, Long lastId,
+            Limit limit);
 
     /**
-     * 사용자 ID로 토큰 삭제
+     * 토큰 다이제스트로 삭제
+     * 
+     * @param tokenHash Refresh Token 다이제스트
+     */
+    @Transactional
+    void deleteByTokenHash(String tokenHash);
+
+    /**
+     * 세션 삭제
+     * 
+     * @param userId    사용자 ID
+     * @param sessionId 세션 ID
+     * @return 삭제된 행 수
+     */
+    @Transactional
+    long deleteByUserIdAndSessionId(String userId, String sessionId);
+
+    /**
+     * 사용자 ID로 토큰 삭제 (모든 세션, 엔티티를 읽지 않는 단일 DELETE)
      * 
      * @param userId 사용자 ID
+     * @return 삭제된 행 수
      */
-    void deleteByUserId(String userId);
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM RefreshTokenEntity r WHERE r.userId = :userId")
+    int deleteByUserId(@Param("userId") String userId);
 
     /**
-     * 만료된 토큰 삭제
+     * 만료된 토큰을 최대 limit개까지 삭제 (배치 단위 정리)
+     * 다른 트랜잭션이 잠근 행은 건너뛰어 락 대기를 만들지 않는다.
      * 
-     * @param now 현재 시간
+     * @param now   현재 시간
+     * @param limit 한 번에 삭제할 최대 행 수
+     * @return 삭제된 행 수
      */
     @Modifying
-    @Query("DELETE FROM RefreshTokenEntity r WHERE r.expiresAt < :now")
-    void deleteExpiredTokens(@Param("now") LocalDateTime now);
+    @Transactional
+    @Query(value = """
+            DELETE FROM refresh_tokens
+            WHERE id IN (
+                SELECT id FROM refresh_tokens
+                WHERE expires_at < :now
+                ORDER BY expires_at
+                LIMIT :limit
+                FOR UPDATE SKIP LOCKED)
+            """, nativeQuery = true)
+    int deleteExpiredBatch(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    /**
+     * 만료된 토큰 수 (정리 대기량)
+     * 
+     * @param now 현재 시간
+     * @return 만료된 행 수
+     */
+    long countByExpiresAtBefore(LocalDateTime now);
 }
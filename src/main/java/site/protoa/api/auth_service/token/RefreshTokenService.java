@@ -3,129 +3,150 @@ package site.protoa.api.auth_service.token;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import site.protoa.api.auth_service.jwt.TokenDigest;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 /**
  * Refresh Token을 Neon DB에 저장/조회/삭제하는 서비스
+ * DB에는 토큰 원문 대신 SHA-256 다이제스트를 저장하며, 세션(기기)마다 한 행을 유지한다.
+ * 
+ * 활성 토큰은 RefreshTokenCache(Redis)에도 write-through로 저장해,
+ * 갱신 요청의 존재 확인은 캐시 미스일 때만 DB를 조회한다.
+ * DB 쓰기는 Repository 트랜잭션에서 먼저 커밋한 뒤 캐시에 반영한다.
  */
 @Service
 public class RefreshTokenService {
 
     private final RefreshTokenRepository refreshTokenRepository;
+    private final RefreshTokenCache refreshTokenCache;
 
     @Autowired
-    public RefreshTokenService(RefreshTokenRepository refreshTokenRepository) {
+    public RefreshTokenService(RefreshTokenRepository refreshTokenRepository, RefreshTokenCache refreshTokenCache) {
         this.refreshTokenRepository = refreshTokenRepository;
+        this.refreshTokenCache = refreshTokenCache;
     }
 
     /**
-     * Refresh Token을 DB에 저장
-     * 기존 토큰이 있으면 업데이트, 없으면 새로 생성
+     * 새 세션의 Refresh Token을 DB에 저장 (로그인)
      * 
      * @param userId 사용자 ID
+     * @param sessionId 세션 ID
      * @param token Refresh Token
      * @param expirationSeconds 만료 시간 (초)
      */
-    @Transactional
-    public void saveToken(String userId, String token, long expirationSeconds) {
-        // 기존 토큰이 있으면 삭제
-        refreshTokenRepository.findByUserId(userId).ifPresent(existing -> {
-            refreshTokenRepository.delete(existing);
-        });
+    public void saveToken(String userId, String sessionId, String token, long expirationSeconds) {
+        String digest = TokenDigest.sha256Hex(token);
+        LocalDateTime now = LocalDateTime.now();
+        refreshTokenRepository.insertSession(userId, sessionId, digest, now.plusSeconds(expirationSeconds), now);
+        refreshTokenCache.put(userId, sessionId, digest, expirationSeconds, null);
+    }
 
-        // 새 토큰 저장
-        RefreshTokenEntity entity = new RefreshTokenEntity();
-        entity.setUserId(userId);
-        entity.setToken(token);
-        entity.setExpiresAt(LocalDateTime.now().plusSeconds(expirationSeconds));
-        refreshTokenRepository.save(entity);
+    /**
+     * 세션의 Refresh Token 회전 (갱신)
+     * DB 행의 현재 토큰이 제출된 토큰일 때만 교체하므로, 캐시 히트로 통과한 토큰도 여기서 DB로 확정된다.
+     * 
+     * @param userId 사용자 ID
+     * @param sessionId 세션 ID
+     * @param previousToken 제출된 (이전) Refresh Token
+     * @param token 새 Refresh Token
+     * @param expirationSeconds 새 토큰 만료 시간 (초)
+     * @return 교체했으면 true, 이미 회전되었거나 폐기/만료된 토큰이면 false
+     */
+    public boolean rotateToken(String userId, String sessionId, String previousToken, String token,
+            long expirationSeconds) {
+        String previousDigest = TokenDigest.sha256Hex(previousToken);
+        String digest = TokenDigest.sha256Hex(token);
+        LocalDateTime now = LocalDateTime.now();
+        if (refreshTokenRepository.rotateBySession(userId, sessionId, previousDigest, digest,
+                now.plusSeconds(expirationSeconds), now) == 0) {
+            return false;
+        }
+        refreshTokenCache.put(userId, sessionId, digest, expirationSeconds, previousDigest);
+        return true;
     }
 
     /**
-     * Refresh Token을 DB에서 조회
+     * Refresh Token을 DB에서 조회 (읽기 전용)
+     * 만료된 행은 쿼리에서 제외되며, 삭제는 RefreshTokenReaper가 맡는다.
      * 
      * @param token Refresh Token
      * @return RefreshTokenEntity 또는 null
      */
+    @Transactional(readOnly = true)
     public Optional<RefreshTokenEntity> getToken(String token) {
-        Optional<RefreshTokenEntity> entity = refreshTokenRepository.findByToken(token);
-        
-        // 만료 확인
-        if (entity.isPresent() && entity.get().getExpiresAt().isBefore(LocalDateTime.now())) {
-            // 만료된 토큰 삭제
-            refreshTokenRepository.delete(entity.get());
-            return Optional.empty();
-        }
-        
-        return entity;
+        return refreshTokenRepository.findByTokenHashAndExpiresAtAfter(
+                TokenDigest.sha256Hex(token), LocalDateTime.now());
     }
 
     /**
-     * 사용자 ID로 Refresh Token 조회
+     * 사용자의 활성 세션 목록 (최근 사용 순, 읽기 전용)
      * 
      * @param userId 사용자 ID
-     * @return RefreshTokenEntity 또는 null
+     * @return RefreshTokenEntity 목록
      */
-    public Optional<RefreshTokenEntity> getTokenByUserId(String userId) {
-        Optional<RefreshTokenEntity> entity = refreshTokenRepository.findByUserId(userId);
-        
-        // 만료 확인
-        if (entity.isPresent() && entity.get().getExpiresAt().isBefore(LocalDateTime.now())) {
-            // 만료된 토큰 삭제
-            refreshTokenRepository.delete(entity.get());
-            return Optional.empty();
-        }
-        
-        return entity;
+    @Transactional(readOnly = true)
+    public List<RefreshTokenEntity> getSessions(String userId) {
+        return refreshTokenRepository.findByUserIdAndExpiresAtAfterOrderByLastUsedAtDesc(userId, LocalDateTime.now());
     }
 
     /**
-     * Refresh Token을 DB에서 삭제
+     * Refresh Token을 DB에서 삭제 (캐시를 먼저 비워 삭제 중에도 캐시로 통과되지 않게 함)
+     * 캐시 제거에 실패하면 DB 삭제 없이 예외를 전파한다.
      * 
      * @param token Refresh Token
      */
-    @Transactional
     public void deleteToken(String token) {
-        refreshTokenRepository.deleteByToken(token);
+        String digest = TokenDigest.sha256Hex(token);
+        refreshTokenCache.evict(digest);
+        refreshTokenRepository.deleteByTokenHash(digest);
     }
 
     /**
-     * 사용자 ID로 Refresh Token 삭제
+     * 세션의 Refresh Token 삭제
+     * 캐시 제거에 실패하면 DB 삭제 없이 예외를 전파한다.
+     * 
+     * @param userId    사용자 ID
+     * @param sessionId 세션 ID
+     * @return 삭제되었으면 true
+     */
+    public boolean deleteSession(String userId, String sessionId) {
+        refreshTokenCache.evictSession(userId, sessionId);
+        return refreshTokenRepository.deleteByUserIdAndSessionId(userId, sessionId) > 0;
+    }
+
+    /**
+     * 사용자 ID로 Refresh Token 삭제 (모든 세션)
      * 
      * @param userId 사용자 ID
      */
-    @Transactional
     public void deleteTokenByUserId(String userId) {
+        for (RefreshTokenEntity session : refreshTokenRepository.findByUserId(userId)) {
+            refreshTokenCache.evict(session.getTokenHash());
+        }
         refreshTokenRepository.deleteByUserId(userId);
     }
 
     /**
-     * Refresh Token 존재 여부 확인
+     * Refresh Token 존재 여부 확인 (만료되지 않은 토큰만)
+     * Redis 캐시를 먼저 확인하고, 미스인 경우에만 DB를 읽어 캐시를 채운다.
      * 
      * @param token Refresh Token
      * @return 존재 여부
      */
     public boolean existsToken(String token) {
-        Optional<RefreshTokenEntity> entity = refreshTokenRepository.findByToken(token);
-        if (entity.isPresent()) {
-            // 만료 확인
-            if (entity.get().getExpiresAt().isBefore(LocalDateTime.now())) {
-                refreshTokenRepository.delete(entity.get());
-                return false;
-            }
+        String digest = TokenDigest.sha256Hex(token);
+        if (refreshTokenCache.contains(digest)) {
             return true;
         }
-        return false;
-    }
 
-    /**
-     * 만료된 토큰 정리 (스케줄러에서 주기적으로 호출)
-     */
-    @Transactional
-    public void cleanupExpiredTokens() {
-        refreshTokenRepository.deleteExpiredTokens(LocalDateTime.now());
+        LocalDateTime now = LocalDateTime.now();
+        Optional<RefreshTokenEntity> entity = refreshTokenRepository.findByTokenHashAndExpiresAtAfter(digest, now);
+        entity.ifPresent(found -> refreshTokenCache.backfill(found.getUserId(), found.getSessionId(), digest,
+                Duration.between(now, found.getExpiresAt()).getSeconds()));
+        return entity.isPresent();
     }
 }
-
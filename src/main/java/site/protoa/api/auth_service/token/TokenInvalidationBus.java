@@ -0,0 +1,200 @@
+package site.protoa.api.auth_service.token;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.SubscriptionListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import site.protoa.api.auth_service.jwt.JwtProperties;
+import site.protoa.api.auth_service.jwt.VerifiedTokenCache;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 토큰 무효화 이벤트 버스 (Redis pub/sub)
+ * 
+ * 발행: 로컬 캐시에 즉시 반영한 뒤, 한 번의 스크립트 호출로 auth:invalidation:seq를 INCR한 번호를 score로
+ * auth:invalidation:log(sorted set)에 기록하고 auth:invalidation 채널로 발행한다.
+ * 수신: 다른 노드의 이벤트를 TokenRevocationStore / UserRevocationRegistry / VerifiedTokenCache에 반영한다.
+ * 따라잡기: 연결이 끊겼던 동안 놓친 이벤트는 로그를 읽어 반영한다 (모든 반영은 멱등).
+ * 리스너 컨테이너가 채널을 (다시) 구독할 때마다 바로 따라잡고, 주기적 따라잡기는 그 외 누락에 대한 안전망이다.
+ * 읽은 위치(cursor)는 따라잡기에서 돌려받은 score로만 전진하므로 노드 간 시계 오차의 영향을 받지 않는다.
+ * 로그는 Redis TIME 기준 기록 시각 인덱스(auth:invalidation:time)로 Access Token 수명보다 오래된 이벤트를
+ * 발행 시 함께 잘라낸다.
+ */
+@Component
+public class TokenInvalidationBus implements MessageListener, SubscriptionListener {
+
+    private static final Logger log = LoggerFactory.getLogger(TokenInvalidationBus.class);
+
+    private static final String CHANNEL = "auth:invalidation";
+    private static final String LOG_KEY = "auth:invalidation:log"; // score = 발행 번호
+    private static final String TIME_KEY = "auth:invalidation:time"; // member = 발행 번호, score = 기록 시각
+    private static final String SEQ_KEY = "auth:invalidation:seq";
+
+    // KEYS: [로그 키, 시각 인덱스 키, 번호 키] / ARGV: [메시지, 보관 기간(ms), 채널]
+    // 번호/시각 모두 Redis에서 정하므로 노드 시계와 무관하다
+    private static final RedisScript<Long> PUBLISH_SCRIPT = new DefaultRedisScript<>("""
+            local seq = redis.call('INCR', KEYS[3])
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+            redis.call('ZADD', KEYS[1], seq, ARGV[1])
+            redis.call('ZADD', KEYS[2], now, seq)
+            local expired = redis.call('ZRANGEBYSCORE', KEYS[2], '-inf', '(' .. (now - tonumber(ARGV[2])))
+            if #expired > 0 then
+                redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', expired[#expired])
+                redis.call('ZREMRANGEBYSCORE', KEYS[2], '-inf', '(' .. (now - tonumber(ARGV[2])))
+            end
+            redis.call('PUBLISH', ARGV[3], ARGV[1])
+            return seq
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ObjectMapper objectMapper;
+    private final JwtProperties jwtProperties;
+    private final TokenRevocationStore tokenRevocationStore;
+    private final UserRevocationRegistry userRevocationRegistry;
+    private final VerifiedTokenCache verifiedTokenCache;
+
+    private final String nodeId = UUID.randomUUID().toString();
+    // 따라잡기로 반영한 마지막 발행 번호
+    private final AtomicLong cursor = new AtomicLong();
+
+    @Autowired
+    public TokenInvalidationBus(RedisTemplate<String, String> redisTemplate,
+            RedisMessageListenerContainer listenerContainer, ObjectMapper objectMapper,
+            JwtProperties jwtProperties, TokenRevocationStore tokenRevocationStore,
+            UserRevocationRegistry userRevocationRegistry, VerifiedTokenCache verifiedTokenCache) {
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.objectMapper = objectMapper;
+        this.jwtProperties = jwtProperties;
+        this.tokenRevocationStore = tokenRevocationStore;
+        this.userRevocationRegistry = userRevocationRegistry;
+        this.verifiedTokenCache = verifiedTokenCache;
+    }
+
+    @PostConstruct
+    void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    /**
+     * 이벤트 발행 (로컬 반영 + 다른 노드로 전파)
+     * Redis 전파에 실패해도 로컬 반영은 유지되며, 다른 노드는 토큰 만료 또는 Redis 재확인으로 수렴한다.
+     * 
+     * @param event 무효화 이벤트
+     */
+    public void publish(TokenInvalidationEvent event) {
+        long now = System.currentTimeMillis();
+        TokenInvalidationEvent stamped = event.stamped(nodeId, now);
+        apply(stamped);
+
+        try {
+            String payload = objectMapper.writeValueAsString(stamped);
+            redisTemplate.execute(PUBLISH_SCRIPT, List.of(LOG_KEY, TIME_KEY, SEQ_KEY),
+                    payload, String.valueOf(jwtProperties.getExpiration()), CHANNEL);
+        } catch (JsonProcessingException e) {
+            log.error("토큰 무효화 이벤트 직렬화 실패: type={}, userId={}", event.type(), event.userId(), e);
+        } catch (Exception e) {
+            log.warn("토큰 무효화 이벤트 전파 실패: type={}, userId={}, cause={}",
+                    event.type(), event.userId(), e.getMessage());
+        }
+    }
+
+    /**
+     * 다른 노드에서 발행된 이벤트 수신
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        TokenInvalidationEvent event = parse(new String(message.getBody(), StandardCharsets.UTF_8));
+        if (event != null && !nodeId.equals(event.origin())) {
+            apply(event);
+        }
+    }
+
+    /**
+     * 채널 구독 완료 (시작 시 + 연결이 끊겼다가 컨테이너가 다시 구독할 때)
+     * 구독이 끊겨 있던 동안 발행된 이벤트를 주기적 따라잡기를 기다리지 않고 바로 반영한다.
+     */
+    @Override
+    public void onChannelSubscribed(byte[] channel, long count) {
+        if (CHANNEL.equals(new String(channel, StandardCharsets.UTF_8))) {
+            catchUp();
+        }
+    }
+
+    /**
+     * 놓친 이벤트 따라잡기 (시작 시 1회 + 재구독 시 + 주기적으로)
+     * cursor 이후 번호의 이벤트를 모두 반영하고, 돌려받은 마지막 번호로 cursor를 옮긴다.
+     * 발행 번호가 cursor보다 작으면 Redis가 비워진 것이므로 처음부터 다시 읽는다.
+     * 스케줄러와 구독 알림에서 동시에 불릴 수 있으므로 한 번에 하나만 실행한다 (cursor가 뒤로 가지 않도록).
+     */
+    @Scheduled(initialDelay = 0, fixedDelayString = "${auth.invalidation.catch-up-interval:PT30S}")
+    public synchronized void catchUp() {
+        try {
+            String head = redisTemplate.opsForValue().get(SEQ_KEY);
+            long from = cursor.get();
+            if ((head != null ? Long.parseLong(head) : 0L) < from) {
+                log.info("토큰 무효화 로그 번호가 초기화되어 처음부터 다시 읽습니다: cursor={}, seq={}", from, head);
+                from = 0L;
+            }
+
+            Set<ZSetOperations.TypedTuple<String>> entries = redisTemplate.opsForZSet()
+                    .rangeByScoreWithScores(LOG_KEY, from + 1, Double.POSITIVE_INFINITY);
+            if (entries == null) {
+                return;
+            }
+            long last = from;
+            for (ZSetOperations.TypedTuple<String> entry : entries) {
+                TokenInvalidationEvent event = parse(entry.getValue());
+                if (event != null) {
+                    apply(event);
+                }
+                if (entry.getScore() != null) {
+                    last = Math.max(last, entry.getScore().longValue());
+                }
+            }
+            cursor.set(last);
+        } catch (Exception e) {
+            log.warn("토큰 무효화 이벤트 따라잡기 실패: {}", e.getMessage());
+        }
+    }
+
+    private void apply(TokenInvalidationEvent event) {
+        if (event.cutoffEpochSeconds() != null) {
+            userRevocationRegistry.markRevoked(event.userId(), event.sessionId(), event.cutoffEpochSeconds());
+        }
+        for (TokenInvalidationEvent.RevokedToken token : event.tokens()) {
+            tokenRevocationStore.revoke(token.digest(), Instant.ofEpochMilli(token.expiresAt()));
+            verifiedTokenCache.invalidate(token.digest());
+        }
+    }
+
+    private TokenInvalidationEvent parse(String payload) {
+        try {
+            return objectMapper.readValue(payload, TokenInvalidationEvent.class);
+        } catch (JsonProcessingException e) {
+            log.warn("토큰 무효화 이벤트 파싱 실패: {}", e.getMessage());
+            return null;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package site.protoa.api.auth_service.token;
+
+import java.util.List;
+
+/**
+ * 노드 간 전파되는 토큰 무효화 이벤트
+ * 
+ * @param type               이벤트 종류
+ * @param userId             사용자 ID
+ * @param sessionId          대상 세션 ID (null이면 사용자의 모든 세션)
+ * @param cutoffEpochSeconds 이 시각 이하에 발급된 (세션) 토큰은 재확인 대상 (없으면 null)
+ * @param tokens             폐기된 개별 토큰 목록
+ * @param origin             발행 노드 ID (발행 시 채워짐)
+ * @param publishedAt        발행 시각 epoch millis (발행 시 채워짐)
+ */
+public record TokenInvalidationEvent(
+        Type type,
+        String userId,
+        String sessionId,
+        Long cutoffEpochSeconds,
+        List<RevokedToken> tokens,
+        String origin,
+        long publishedAt) {
+
+    public enum Type {
+        REVOKE, // 개별 토큰 폐기
+        ROTATE, // 저장된 토큰 교체 (로그인/갱신)
+        LOGOUT // 로그아웃
+    }
+
+    /**
+     * 폐기된 토큰
+     * 
+     * @param digest    토큰 다이제스트
+     * @param expiresAt 토큰 만료 시각 epoch millis
+     */
+    public record RevokedToken(String digest, long expiresAt) {
+    }
+
+    /**
+     * 세션 단위 폐기 시점 이벤트 (sessionId가 null이면 사용자의 모든 세션)
+     */
+    public static TokenInvalidationEvent cutoff(Type type, String userId, String sessionId,
+            long cutoffEpochSeconds) {
+        return new TokenInvalidationEvent(type, userId, sessionId, cutoffEpochSeconds, List.of(), null, 0L);
+    }
+
+    /**
+     * 개별 토큰 폐기 이벤트
+     */
+    public static TokenInvalidationEvent revoke(String userId, List<RevokedToken> tokens) {
+        return new TokenInvalidationEvent(Type.REVOKE, userId, null, null, List.copyOf(tokens), null, 0L);
+    }
+
+    /**
+     * 발행 정보가 채워진 사본
+     */
+    TokenInvalidationEvent stamped(String origin, long publishedAt) {
+        return new TokenInvalidationEvent(type, userId, sessionId, cutoffEpochSeconds, tokens, origin,
+                publishedAt);
+    }
+}
@@ -0,0 +1,93 @@
+package site.protoa.api.auth_service.token;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 폐기된 토큰 저장소 (토큰 다이제스트 기준, 프로세스 내)
+ * 
+ * - Bloom filter: 대부분의 (폐기되지 않은) 토큰을 메모리 조회 없이 바로 통과시킨다.
+ * - 확인용 맵: Bloom filter가 "있을 수 있음"이라고 답한 경우에만 조회해 오탐을 걸러낸다.
+ * - 각 엔트리는 토큰 자체의 만료 시각까지만 유지되며, 주기적으로 만료 엔트리를 지우고
+ *   현재 크기에 맞춰 Bloom filter를 다시 만든다.
+ */
+@Component
+public class TokenRevocationStore {
+
+    private final long minExpectedInsertions;
+    private final double falsePositiveRate;
+
+    // digest → 토큰 만료 시각 (epoch millis)
+    private final Map<String, Long> revoked = new ConcurrentHashMap<>();
+
+    // 추가와 재구성만 직렬화 (조회는 락 없음)
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private volatile BloomFilter filter;
+
+    public TokenRevocationStore(
+            @Value("${jwt.revocation.expected-insertions:10000}") long minExpectedInsertions,
+            @Value("${jwt.revocation.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.minExpectedInsertions = minExpectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.filter = new BloomFilter(minExpectedInsertions, falsePositiveRate);
+    }
+
+    /**
+     * 토큰 폐기 기록
+     * 
+     * @param digest    토큰 다이제스트 (TokenDigest.sha256Hex)
+     * @param expiresAt 토큰 만료 시각 (이후에는 기록이 필요 없음)
+     */
+    public void revoke(String digest, Instant expiresAt) {
+        if (expiresAt == null || !expiresAt.isAfter(Instant.now())) {
+            return;
+        }
+
+        writeLock.lock();
+        try {
+            revoked.merge(digest, expiresAt.toEpochMilli(), Math::max);
+            filter.put(digest);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * 폐기 여부 확인
+     * 
+     * @param digest 토큰 다이제스트
+     * @return 폐기되었고 아직 만료되지 않았으면 true
+     */
+    public boolean isRevoked(String digest) {
+        if (!filter.mightContain(digest)) {
+            return false;
+        }
+        Long expiresAt = revoked.get(digest);
+        return expiresAt != null && expiresAt > System.currentTimeMillis();
+    }
+
+    /**
+     * 만료된 엔트리 제거 후 Bloom filter 재구성 (삭제된 원소의 비트를 비우기 위함)
+     */
+    @Scheduled(fixedDelayString = "${jwt.revocation.rebuild-interval:PT10M}")
+    public void rebuild() {
+        writeLock.lock();
+        try {
+            long now = System.currentTimeMillis();
+            revoked.values().removeIf(expiresAt -> expiresAt <= now);
+
+            BloomFilter rebuilt = new BloomFilter(
+                    Math.max(minExpectedInsertions, revoked.size() * 2L), falsePositiveRate);
+            revoked.keySet().forEach(rebuilt::put);
+            filter = rebuilt;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package site.protoa.api.auth_service.token;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import site.protoa.api.auth_service.jwt.JwtProperties;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 사용자/세션별 마지막 토큰 폐기 시점 (프로세스 내)
+ * 이 시점 이전(같은 초 포함)에 발급된 Access Token은 Redis로 재확인해야 한다.
+ * 세션 단위 기록은 해당 세션의 토큰에만, 사용자 단위 기록은 모든 세션의 토큰에 적용된다.
+ * Access Token 수명이 지난 기록은 그 이전 토큰이 모두 만료되었으므로 정리한다.
+ */
+@Component
+public class UserRevocationRegistry {
+
+    private static final char SESSION_SEPARATOR = '\u0000';
+
+    private final JwtProperties jwtProperties;
+
+    // userId 또는 userId + 구분자 + sessionId → 폐기 기준 시각 (epoch seconds)
+    private final Map<String, Long> cutoffs = new ConcurrentHashMap<>();
+
+    @Autowired
+    public UserRevocationRegistry(JwtProperties jwtProperties) {
+        this.jwtProperties = jwtProperties;
+    }
+
+    /**
+     * 폐기 기준 시각 기록 (기존 값보다 이후인 경우에만 갱신)
+     * 
+     * @param userId             사용자 ID
+     * @param sessionId          세션 ID (null이면 사용자의 모든 세션)
+     * @param cutoffEpochSeconds 이 시각 이하에 발급된 토큰은 재확인 대상
+     */
+    public void markRevoked(String userId, String sessionId, long cutoffEpochSeconds) {
+        cutoffs.merge(key(userId, sessionId), cutoffEpochSeconds, Math::max);
+    }
+
+    /**
+     * Redis 재확인이 필요한 토큰인지 확인
+     * 
+     * @param userId    사용자 ID
+     * @param sessionId 토큰의 세션 ID
+     * @param issuedAt  토큰 발급 시각 (iat)
+     * @return 사용자 또는 세션의 마지막 폐기 시점 이전에 발급되었으면 true
+     */
+    public boolean requiresStoreCheck(String userId, String sessionId, Instant issuedAt) {
+        Long userCutoff = cutoffs.get(userId);
+        Long sessionCutoff = cutoffs.get(key(userId, sessionId));
+        if (userCutoff == null && sessionCutoff == null) {
+            return false;
+        }
+        if (issuedAt == null) {
+            return true;
+        }
+        long cutoff = Math.max(userCutoff != null ? userCutoff : Long.MIN_VALUE,
+                sessionCutoff != null ? sessionCutoff : Long.MIN_VALUE);
+        return issuedAt.getEpochSecond() <= cutoff;
+    }
+
+    private static String key(String userId, String sessionId) {
+        return sessionId == null ? userId : userId + SESSION_SEPARATOR + sessionId;
+    }
+
+    /**
+     * Access Token 수명보다 오래된 폐기 기록 정리
+     */
+    @Scheduled(fixedDelayString = "${jwt.revocation.prune-interval:PT5M}")
+    public void pruneExpired() {
+        long horizon = Instant.now().getEpochSecond() - jwtProperties.getExpiration() / 1000;
+        cutoffs.values().removeIf(cutoff -> cutoff < horizon);
+    }
+}
@@ -1,5 +1,7 @@
 package site.protoa.api.config;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -8,6 +10,7 @@ import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 import io.lettuce.core.ClientOptions;
 import io.lettuce.core.SocketOptions;
@@ -19,6 +22,8 @@ import java.net.URI;
 @Configuration
 public class RedisConfig {
 
+    private static final Logger log = LoggerFactory.getLogger(RedisConfig.class);
+
     @Value("${UPSTASH_REDIS_URL:}")
     private String redisUrl;
 
@@ -69,23 +74,15 @@ public class RedisConfig {
                     config.setPassword(password);
                 }
 
-                System.out.println("✅ Redis 연결 설정:");
-                System.out.println("   Host: " + host);
-                System.out.println("   Port: " + port);
-                System.out.println("   SSL: " + useSsl);
-                System.out.println("   Password: " + (password != null && !password.isEmpty() ? "***설정됨***" : "없음"));
+                log.info("Redis 연결 설정 host={} port={} ssl={} password={}", host, port, useSsl,
+                        password != null && !password.isEmpty() ? "설정됨" : "없음");
             } catch (Exception e) {
                 // URL 파싱 실패 시 에러 출력
-                System.err.println("❌ Redis URL 파싱 실패: " + e.getMessage());
-                System.err.println("   Redis URL: "
-                        + (redisUrl != null ? redisUrl.substring(0, Math.min(50, redisUrl.length())) + "..." : "null"));
-                e.printStackTrace();
+                log.error("Redis URL 파싱 실패: {}", e.getMessage(), e);
                 throw new RuntimeException("Redis 연결 설정 실패: " + e.getMessage(), e);
             }
         } else {
             // 환경 변수가 없으면 에러
-            System.err.println("❌ Redis URL이 설정되지 않았습니다!");
-            System.err.println("   UPSTASH_REDIS_URL 환경 변수를 설정하세요.");
             throw new RuntimeException("Redis URL이 설정되지 않았습니다. UPSTASH_REDIS_URL 환경 변수를 확인하세요.");
         }
 
@@ -108,7 +105,7 @@ public class RedisConfig {
                     .useSsl()
                     .build();
 
-            System.out.println("✅ SSL 설정 완료");
+            log.debug("Redis SSL 설정 완료");
         } else {
             // SSL 사용하지 않는 경우
             clientConfig = LettuceClientConfiguration.builder()
@@ -133,7 +130,7 @@ public class RedisConfig {
 
         // 연결 테스트 제거 (런타임에 자동 재시도)
         // 초기화 시 연결 테스트는 실패할 수 있으므로, 실제 사용 시점에 연결하도록 함
-        System.out.println("✅ Redis ConnectionFactory 생성 완료 (런타임 연결)");
+        log.info("Redis ConnectionFactory 생성 완료 (런타임 연결)");
 
         return factory;
     }
@@ -149,4 +146,12 @@ public class RedisConfig {
         template.afterPropertiesSet();
         return template;
     }
+
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory) {
+        // 토큰 무효화 이벤트 구독용 (구독이 끊기면 컨테이너가 자동으로 재구독)
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        return container;
+    }
 }
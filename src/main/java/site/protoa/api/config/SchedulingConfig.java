@@ -0,0 +1,12 @@
+package site.protoa.api.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * @Scheduled 작업 활성화 (토큰 폐기 기록 정리 등)
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
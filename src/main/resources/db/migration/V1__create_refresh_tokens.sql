@@ -0,0 +1,10 @@
+-- Refresh Token 테이블 초기 스키마 (기존 ddl-auto: update 결과와 동일)
+-- 이미 테이블이 있는 DB는 baseline-on-migrate로 이 버전을 건너뛴다.
+CREATE TABLE IF NOT EXISTS refresh_tokens (
+    id         BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    token      VARCHAR(500) NOT NULL UNIQUE,
+    user_id    VARCHAR(100) NOT NULL,
+    expires_at TIMESTAMP(6) NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL,
+    CONSTRAINT uk_refresh_tokens_user_id UNIQUE (user_id)
+);
@@ -0,0 +1,27 @@
+-- Refresh Token 원문(최대 500자) 대신 SHA-256 다이제스트(64자 hex)를 조회 키로 사용
+-- user_id / expires_at 조회·삭제가 인덱스를 타도록 정리
+
+-- 사용자당 한 행만 유지 (가장 최근 행만 남김) 후 user_id 유니크 보장
+DELETE FROM refresh_tokens r
+USING refresh_tokens newer
+WHERE r.user_id = newer.user_id
+  AND r.id < newer.id;
+
+DO $$
+BEGIN
+    IF NOT EXISTS (SELECT 1 FROM pg_constraint WHERE conname = 'uk_refresh_tokens_user_id') THEN
+        ALTER TABLE refresh_tokens ADD CONSTRAINT uk_refresh_tokens_user_id UNIQUE (user_id);
+    END IF;
+END $$;
+
+-- 토큰 다이제스트 컬럼 추가 및 기존 행 채우기
+ALTER TABLE refresh_tokens ADD COLUMN token_hash VARCHAR(64);
+UPDATE refresh_tokens SET token_hash = encode(sha256(convert_to(token, 'UTF8')), 'hex');
+ALTER TABLE refresh_tokens ALTER COLUMN token_hash SET NOT NULL;
+ALTER TABLE refresh_tokens ADD CONSTRAINT uk_refresh_tokens_token_hash UNIQUE (token_hash);
+
+-- 원문 토큰 컬럼(및 그 유니크 인덱스) 제거
+ALTER TABLE refresh_tokens DROP COLUMN token;
+
+-- 만료 토큰 정리용 인덱스 (user_id는 uk_refresh_tokens_user_id 인덱스 사용)
+CREATE INDEX idx_refresh_tokens_expires_at ON refresh_tokens (expires_at);
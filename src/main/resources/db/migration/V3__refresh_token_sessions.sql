@@ -0,0 +1,17 @@
+-- 사용자당 여러 세션(기기) 허용: (user_id, session_id)당 한 행
+-- 세션 도입 이전의 행은 'default' 세션으로 옮긴다 (sid 클레임 없는 토큰과 같은 값)
+
+ALTER TABLE refresh_tokens ADD COLUMN session_id VARCHAR(64);
+UPDATE refresh_tokens SET session_id = 'default';
+ALTER TABLE refresh_tokens ALTER COLUMN session_id SET NOT NULL;
+
+-- 마지막 사용(로그인/갱신) 시각 - 세션 수 제한 시 가장 오래 쓰지 않은 세션부터 종료
+ALTER TABLE refresh_tokens ADD COLUMN last_used_at TIMESTAMP(6);
+UPDATE refresh_tokens SET last_used_at = created_at;
+ALTER TABLE refresh_tokens ALTER COLUMN last_used_at SET NOT NULL;
+
+ALTER TABLE refresh_tokens DROP CONSTRAINT uk_refresh_tokens_user_id;
+ALTER TABLE refresh_tokens ADD CONSTRAINT uk_refresh_tokens_user_session UNIQUE (user_id, session_id);
+
+-- 사용자 세션 목록 조회/정리용 인덱스
+CREATE INDEX idx_refresh_tokens_user_last_used ON refresh_tokens (user_id, last_used_at DESC);
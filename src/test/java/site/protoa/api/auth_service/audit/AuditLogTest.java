@@ -0,0 +1,110 @@
+package site.protoa.api.auth_service.audit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * AuditLog: 임시 디렉터리에서 기록 → 읽기 / 세그먼트 전환 / 잘린 꼬리 복구
+ */
+class AuditLogTest {
+
+    private static final Instant FROM = Instant.EPOCH;
+    private static final Instant TO = Instant.now().plus(Duration.ofDays(1));
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void recordsAreReadBackInOrder() throws Exception {
+        AuditLog auditLog = start(properties());
+        for (int i = 0; i < 100; i++) {
+            auditLog.record(AuditEventType.LOGIN, "kakao", "user-" + i, i, null);
+        }
+        auditLog.stop(); // 남은 큐를 모두 기록한 뒤 반환
+
+        List<AuditRecord> records = auditLog.read(FROM, TO).toList();
+        assertEquals(100, records.size());
+        for (int i = 0; i < 100; i++) {
+            assertEquals("user-" + i, records.get(i).userId());
+            assertEquals(i, records.get(i).latencyMillis());
+            assertEquals("", records.get(i).detail());
+        }
+    }
+
+    @Test
+    void rollsToNewSegmentWhenFull() throws Exception {
+        AuditLogProperties properties = properties();
+        properties.setSegmentSize(DataSize.ofBytes(100)); // 레코드 2개 정도
+        properties.setBatchSize(1);
+        AuditLog auditLog = start(properties);
+        for (int i = 0; i < 10; i++) {
+            auditLog.record(AuditEventType.REFRESH, "naver", "user-" + i, 0, null);
+        }
+        auditLog.stop();
+
+        List<Path> segments = segments();
+        assertTrue(segments.size() >= 4, "segments=" + segments.size());
+        for (Path segment : segments) {
+            assertTrue(Files.size(segment) <= 100, segment + " size=" + Files.size(segment));
+        }
+        assertEquals(List.of("user-0", "user-1", "user-2", "user-3", "user-4", "user-5", "user-6", "user-7",
+                "user-8", "user-9"), auditLog.read(FROM, TO).map(AuditRecord::userId).toList());
+    }
+
+    @Test
+    void truncatedTailIsSkippedAndNextStartOpensNewSegment() throws Exception {
+        AuditLog first = start(properties());
+        for (int i = 0; i < 5; i++) {
+            first.record(AuditEventType.LOGIN, "google", "user-" + i, 0, null);
+        }
+        first.stop();
+
+        // 마지막 레코드를 쓰는 도중 종료된 상황
+        Path segment = segments().get(0);
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            channel.truncate(channel.size() - 3);
+        }
+
+        AuditLog second = start(properties());
+        second.record(AuditEventType.LOGOUT, "google", "user-5", 0, null);
+        second.stop();
+
+        assertEquals(2, segments().size());
+        assertEquals(List.of("user-0", "user-1", "user-2", "user-3", "user-5"),
+                second.read(FROM, TO).map(AuditRecord::userId).toList());
+    }
+
+    private AuditLogProperties properties() {
+        AuditLogProperties properties = new AuditLogProperties();
+        properties.setDirectory(directory);
+        properties.setFsync(false);
+        return properties;
+    }
+
+    private static AuditLog start(AuditLogProperties properties) throws IOException {
+        AuditLog auditLog = new AuditLog(properties, new SimpleMeterRegistry());
+        auditLog.start();
+        return auditLog;
+    }
+
+    private List<Path> segments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> path.getFileName().toString().endsWith(".seg")).sorted().toList();
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package site.protoa.api.auth_service.audit;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * AuditRecordCodec: 왕복 / CRC 손상 / 잘린 꼬리 / 문자열 길이 제한
+ */
+class AuditRecordCodecTest {
+
+    @Test
+    void roundTripsConsecutiveRecords() {
+        AuditRecord first = record(AuditEventType.LOGIN, "kakao", "user-1", "");
+        AuditRecord second = record(AuditEventType.REFRESH_REUSE, "", "사용자-2", "session=abc");
+        ByteBuffer buffer = ByteBuffer.allocate(2 * AuditRecordCodec.MAX_RECORD_BYTES);
+        AuditRecordCodec.encode(first, buffer);
+        AuditRecordCodec.encode(second, buffer);
+        buffer.flip();
+
+        assertEquals(first, AuditRecordCodec.decode(buffer));
+        assertEquals(second, AuditRecordCodec.decode(buffer));
+        assertNull(AuditRecordCodec.decode(buffer));
+        assertEquals(buffer.limit(), buffer.position());
+    }
+
+    @Test
+    void corruptRecordIsRejectedWithoutMovingPosition() {
+        ByteBuffer buffer = encode(record(AuditEventType.LOGOUT, "naver", "user-1", "detail"));
+        buffer.put(10, (byte) (buffer.get(10) ^ 0x01)); // timestamp 구간의 한 비트를 뒤집음
+
+        assertNull(AuditRecordCodec.decode(buffer));
+        assertEquals(0, buffer.position());
+    }
+
+    @Test
+    void truncatedTailIsRejectedWithoutMovingPosition() {
+        ByteBuffer encoded = encode(record(AuditEventType.LOGIN, "google", "user-1", "detail"));
+        for (int cut = 0; cut < encoded.limit(); cut++) {
+            ByteBuffer truncated = encoded.duplicate().limit(cut);
+
+            assertNull(AuditRecordCodec.decode(truncated), "cut=" + cut);
+            assertEquals(0, truncated.position());
+        }
+    }
+
+    @Test
+    void longFieldsAreCutAtCharacterBoundary() {
+        String provider = "p".repeat(100);
+        String userId = "가".repeat(200); // 3바이트 문자: 255바이트 안에 85자
+        ByteBuffer buffer = encode(record(AuditEventType.LOGIN, provider, userId, "d".repeat(300)));
+
+        AuditRecord decoded = AuditRecordCodec.decode(buffer);
+
+        assertEquals("p".repeat(AuditRecordCodec.MAX_PROVIDER_BYTES), decoded.provider());
+        assertEquals("가".repeat(85), decoded.userId());
+        assertEquals("d".repeat(AuditRecordCodec.MAX_FIELD_BYTES), decoded.detail());
+        assertTrue(buffer.position() <= AuditRecordCodec.MAX_RECORD_BYTES);
+    }
+
+    private static ByteBuffer encode(AuditRecord record) {
+        ByteBuffer buffer = ByteBuffer.allocate(AuditRecordCodec.MAX_RECORD_BYTES);
+        AuditRecordCodec.encode(record, buffer);
+        return buffer.flip();
+    }
+
+    private static AuditRecord record(AuditEventType type, String provider, String userId, String detail) {
+        return new AuditRecord(Instant.ofEpochMilli(1_700_000_000_000L), type, provider, userId, 42, detail);
+    }
+}
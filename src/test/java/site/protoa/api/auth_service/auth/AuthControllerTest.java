@@ -0,0 +1,130 @@
+package site.protoa.api.auth_service.auth;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import site.protoa.api.auth_service.audit.AuditLog;
+import site.protoa.api.auth_service.jwt.JwtProperties;
+import site.protoa.api.auth_service.jwt.JwtTokenProvider;
+import site.protoa.api.auth_service.jwt.VerifiedTokenCache;
+import site.protoa.api.auth_service.metrics.AuthFlowMetrics;
+import site.protoa.api.auth_service.session.SessionService;
+import site.protoa.api.auth_service.token.AccessTokenService;
+import site.protoa.api.auth_service.token.RefreshTokenService;
+import site.protoa.api.auth_service.token.TokenInvalidationBus;
+import site.protoa.api.auth_service.token.TokenRevocationStore;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.ArgumentMatchers.longThat;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 토큰 갱신/로그아웃 실패 경로 확인
+ */
+class AuthControllerTest {
+
+    private JwtTokenProvider jwtTokenProvider;
+    private AccessTokenService accessTokenService;
+    private RefreshTokenService refreshTokenService;
+    private TokenInvalidationBus tokenInvalidationBus;
+    private SessionService sessionService;
+    private AuthController authController;
+
+    @BeforeEach
+    void setUp() {
+        JwtProperties properties = new JwtProperties();
+        properties.setSecret("test-secret-which-is-longer-than-32-bytes");
+        jwtTokenProvider = new JwtTokenProvider(properties, new VerifiedTokenCache(properties, new SimpleMeterRegistry()));
+        accessTokenService = mock(AccessTokenService.class);
+        refreshTokenService = mock(RefreshTokenService.class);
+        tokenInvalidationBus = mock(TokenInvalidationBus.class);
+        sessionService = mock(SessionService.class);
+        authController = new AuthController(jwtTokenProvider, accessTokenService, refreshTokenService,
+                mock(TokenRevocationStore.class), tokenInvalidationBus, sessionService,
+                mock(AuditLog.class), new AuthFlowMetrics(new SimpleMeterRegistry()), new AuthCookies(false, "Lax"));
+    }
+
+    @Test
+    void dbSaveFailureUndoesRotationAndSkipsRevoke() {
+        String refreshToken = jwtTokenProvider.generateRefreshToken("user-1", "session-1");
+        String accessToken = jwtTokenProvider.generateToken("user-1", "session-1");
+        when(refreshTokenService.existsToken(refreshToken)).thenReturn(true);
+        when(accessTokenService.rotateToken(eq("user-1"), eq("session-1"), eq(refreshToken), eq(accessToken),
+                anyString(), anyLong(), anyLong())).thenReturn(true);
+        when(refreshTokenService.rotateToken(eq("user-1"), eq("session-1"), eq(refreshToken), anyString(),
+                anyLong())).thenThrow(new IllegalStateException("db down"));
+
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setCookies(new Cookie("RefreshToken", refreshToken), new Cookie("Authorization", accessToken));
+        ResponseEntity<?> result = authController.refreshToken(request, new MockHttpServletResponse());
+
+        assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, result.getStatusCode());
+        // 새 Access Token 대신 요청에 실려 온 이전 Access Token을 되돌려 놓는다
+        verify(accessTokenService).undoRotation(eq("user-1"), eq("session-1"), eq(refreshToken), eq(accessToken),
+                longThat(seconds -> seconds > 0), anyString());
+        verify(tokenInvalidationBus, never()).publish(any());
+    }
+
+    @Test
+    void dbSaveFailureWithoutAccessCookieDropsNewAccessToken() {
+        String refreshToken = jwtTokenProvider.generateRefreshToken("user-1", "session-1");
+        when(refreshTokenService.existsToken(refreshToken)).thenReturn(true);
+        when(accessTokenService.rotateToken(eq("user-1"), eq("session-1"), eq(refreshToken), any(), anyString(),
+                anyLong(), anyLong())).thenReturn(true);
+        when(refreshTokenService.rotateToken(eq("user-1"), eq("session-1"), eq(refreshToken), anyString(),
+                anyLong())).thenThrow(new IllegalStateException("db down"));
+
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setCookies(new Cookie("RefreshToken", refreshToken));
+        authController.refreshToken(request, new MockHttpServletResponse());
+
+        verify(accessTokenService).undoRotation(eq("user-1"), eq("session-1"), eq(refreshToken), isNull(), eq(0L),
+                anyString());
+    }
+
+    @Test
+    void staleTokenRejectedByDbRevokesSession() {
+        String refreshToken = jwtTokenProvider.generateRefreshToken("user-1", "session-1");
+        when(refreshTokenService.existsToken(refreshToken)).thenReturn(true); // 캐시 히트
+        when(accessTokenService.rotateToken(eq("user-1"), eq("session-1"), eq(refreshToken), any(), anyString(),
+                anyLong(), anyLong())).thenReturn(true);
+        when(refreshTokenService.rotateToken(eq("user-1"), eq("session-1"), eq(refreshToken), anyString(),
+                anyLong())).thenReturn(false); // DB 조건부 UPDATE 0행
+
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setCookies(new Cookie("RefreshToken", refreshToken));
+        ResponseEntity<?> result = authController.refreshToken(request, new MockHttpServletResponse());
+
+        assertEquals(HttpStatus.UNAUTHORIZED, result.getStatusCode());
+        verify(sessionService).revokeSession("user-1", "session-1");
+        verify(tokenInvalidationBus, never()).publish(any());
+    }
+
+    @Test
+    void logoutFailsWhenRefreshTokenDeletionFails() {
+        String refreshToken = jwtTokenProvider.generateRefreshToken("user-1", "session-1");
+        doThrow(new IllegalStateException("redis down")).when(refreshTokenService).deleteToken(refreshToken);
+
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setCookies(new Cookie("RefreshToken", refreshToken));
+        ResponseEntity<?> result = authController.logout(request, new MockHttpServletResponse());
+
+        assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, result.getStatusCode());
+        // 삭제에 실패해도 제출된 토큰의 폐기는 전파된다
+        verify(tokenInvalidationBus).publish(any());
+    }
+}
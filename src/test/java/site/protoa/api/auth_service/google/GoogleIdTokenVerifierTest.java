@@ -0,0 +1,97 @@
+package site.protoa.api.auth_service.google;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Jwks;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import site.protoa.api.auth_service.google.dto.GoogleUserInfo;
+
+import java.security.KeyPair;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * GoogleIdTokenVerifier: JWKS를 한 번 받아 kid별 파서로 검증 / aud·iss 확인
+ */
+class GoogleIdTokenVerifierTest {
+
+    private static final String CLIENT_ID = "client-1";
+
+    private final KeyPair keyPair = Jwts.SIG.RS256.keyPair().build();
+    private final AtomicInteger jwksCalls = new AtomicInteger();
+    private GoogleIdTokenVerifier verifier;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        String jwks = new ObjectMapper().writeValueAsString(Map.of("keys",
+                List.of(Jwks.builder().key(keyPair.getPublic()).id("kid-1").build())));
+        WebClient webClient = WebClient.builder()
+                .exchangeFunction(request -> {
+                    jwksCalls.incrementAndGet();
+                    return Mono.just(ClientResponse.create(HttpStatus.OK)
+                            .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                            .body(jwks)
+                            .build());
+                })
+                .build();
+
+        verifier = new GoogleIdTokenVerifier(webClient, new SimpleMeterRegistry(), 16, Duration.ofHours(24));
+        ReflectionTestUtils.setField(verifier, "googleClientId", CLIENT_ID);
+        ReflectionTestUtils.setField(verifier, "enabled", true);
+        ReflectionTestUtils.setField(verifier, "jwksUri", "https://example.test/certs");
+        ReflectionTestUtils.setField(verifier, "minRefreshInterval", Duration.ofSeconds(30));
+        ReflectionTestUtils.setField(verifier, "clockSkew", Duration.ofSeconds(30));
+    }
+
+    @Test
+    void verifiesWithCachedKeyAfterSingleJwksFetch() {
+        GoogleUserInfo first = verifier.verify(idToken(CLIENT_ID, "https://accounts.google.com", "user-1")).block();
+        GoogleUserInfo second = verifier.verify(idToken(CLIENT_ID, "accounts.google.com", "user-2")).block();
+
+        assertEquals("user-1", first.getId());
+        assertEquals("user-1@example.com", first.getEmail());
+        assertEquals("user-2", second.getId());
+        assertEquals(1, jwksCalls.get());
+    }
+
+    @Test
+    void rejectsWrongAudienceAndIssuer() {
+        Mono<GoogleUserInfo> wrongAudience = verifier.verify(
+                idToken("other-client", "https://accounts.google.com", "user-1"));
+        Mono<GoogleUserInfo> wrongIssuer = verifier.verify(idToken(CLIENT_ID, "https://evil.example", "user-1"));
+
+        assertThrows(JwtException.class, wrongAudience::block);
+        assertThrows(JwtException.class, wrongIssuer::block);
+    }
+
+    private String idToken(String audience, String issuer, String subject) {
+        Instant now = Instant.now();
+        return Jwts.builder()
+                .header().keyId("kid-1").and()
+                .subject(subject)
+                .audience().add(audience).and()
+                .issuer(issuer)
+                .claim("email", subject + "@example.com")
+                .issuedAt(Date.from(now))
+                .expiration(Date.from(now.plusSeconds(600)))
+                .signWith(keyPair.getPrivate())
+                .compact();
+    }
+}
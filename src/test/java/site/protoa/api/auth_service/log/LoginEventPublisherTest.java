@@ -0,0 +1,60 @@
+package site.protoa.api.auth_service.log;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * LoginEventPublisher: 종료 시 진행 중인 flush를 기다린 뒤 남은 이벤트를 모두 기록하는지 확인
+ */
+class LoginEventPublisherTest {
+
+    @Test
+    void shutdownWaitsForRunningFlushAndDrainsRest() throws Exception {
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        List<LoginEvent> written = new CopyOnWriteArrayList<>();
+        LoginEventSink sink = batch -> {
+            writing.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            written.addAll(batch);
+        };
+        LoginEventPublisher publisher = new LoginEventPublisher(sink, new SimpleMeterRegistry(), 64, 1,
+                LoginEventPublisher.DropPolicy.DROP_NEWEST);
+
+        publisher.publish(event(0));
+        CompletableFuture<Void> flush = CompletableFuture.runAsync(publisher::flush);
+        assertTrue(writing.await(5, TimeUnit.SECONDS));
+        for (int i = 1; i < 10; i++) {
+            publisher.publish(event(i));
+        }
+
+        CompletableFuture<Void> shutdown = CompletableFuture.runAsync(publisher::shutdown);
+        Thread.sleep(100);
+        assertFalse(shutdown.isDone()); // flush가 락을 잡고 있는 동안 대기
+
+        release.countDown();
+        flush.get(5, TimeUnit.SECONDS);
+        shutdown.get(5, TimeUnit.SECONDS);
+
+        assertEquals(10, written.size());
+    }
+
+    private static LoginEvent event(int i) {
+        return new LoginEvent("action-" + i, null, i, Instant.EPOCH);
+    }
+}
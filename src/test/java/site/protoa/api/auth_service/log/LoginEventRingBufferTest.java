@@ -0,0 +1,146 @@
+package site.protoa.api.auth_service.log;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * LoginEventRingBuffer: 다중 생산자 / 꺼내는 순서 / 한 바퀴 넘김 / 가득 찼을 때 버림
+ */
+class LoginEventRingBufferTest {
+
+    @Test
+    void capacityRoundsUpToPowerOfTwo() {
+        assertEquals(8, new LoginEventRingBuffer(5).capacity());
+        assertEquals(8, new LoginEventRingBuffer(8).capacity());
+        assertEquals(2, new LoginEventRingBuffer(1).capacity());
+    }
+
+    @Test
+    void drainsInOfferOrder() {
+        LoginEventRingBuffer buffer = new LoginEventRingBuffer(16);
+        for (int i = 0; i < 10; i++) {
+            assertTrue(buffer.offer(event(i)));
+        }
+
+        List<LoginEvent> batch = new ArrayList<>();
+        assertEquals(4, buffer.drainTo(batch, 4));
+        assertEquals(6, buffer.drainTo(batch, 100));
+        for (int i = 0; i < 10; i++) {
+            assertEquals("action-" + i, batch.get(i).action());
+        }
+        assertNull(buffer.poll());
+        assertEquals(0, buffer.size());
+    }
+
+    @Test
+    void wrapsAroundManyTimes() {
+        LoginEventRingBuffer buffer = new LoginEventRingBuffer(4);
+        int next = 0;
+        int expected = 0;
+        for (int round = 0; round < 100; round++) {
+            // 매 바퀴 일부만 꺼내 head/tail이 슬롯 경계를 계속 넘게 함
+            while (buffer.offer(event(next))) {
+                next++;
+            }
+            for (int i = 0; i < 3; i++) {
+                assertEquals("action-" + expected++, buffer.poll().action());
+            }
+        }
+        LoginEvent event;
+        while ((event = buffer.poll()) != null) {
+            assertEquals("action-" + expected++, event.action());
+        }
+        assertEquals(next, expected);
+    }
+
+    @Test
+    void rejectsWhenFullAndCountsDrops() {
+        LoginEventRingBuffer buffer = new LoginEventRingBuffer(8);
+        int dropped = 0;
+        for (int i = 0; i < 20; i++) {
+            if (!buffer.offer(event(i))) {
+                dropped++;
+            }
+        }
+
+        assertEquals(12, dropped);
+        assertEquals(8, buffer.size());
+        assertFalse(buffer.offer(event(99)));
+
+        // 하나 꺼내면 다시 하나를 받을 수 있다
+        assertEquals("action-0", buffer.poll().action());
+        assertTrue(buffer.offer(event(100)));
+    }
+
+    @Test
+    void concurrentProducersLoseNothingAndKeepPerProducerOrder() throws Exception {
+        int producers = 8;
+        int perProducer = 20_000;
+        LoginEventRingBuffer buffer = new LoginEventRingBuffer(1024);
+        AtomicInteger dropped = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        List<LoginEvent> drained = new ArrayList<>();
+        try {
+            List<Future<?>> results = new ArrayList<>();
+            for (int p = 0; p < producers; p++) {
+                int producer = p;
+                results.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < perProducer; i++) {
+                        if (!buffer.offer(new LoginEvent("p" + producer, String.valueOf(i), i, Instant.EPOCH))) {
+                            dropped.incrementAndGet();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+
+            // 단일 소비자가 생산과 동시에 꺼냄
+            while (!results.stream().allMatch(Future::isDone)) {
+                buffer.drainTo(drained, 256);
+            }
+            for (Future<?> result : results) {
+                result.get();
+            }
+            buffer.drainTo(drained, Integer.MAX_VALUE);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(producers * perProducer, drained.size() + dropped.get());
+
+        // 생산자별로는 넣은 순서가 유지되고 중복이 없다
+        int[] last = new int[producers];
+        Arrays.fill(last, -1);
+        Set<String> seen = new HashSet<>();
+        for (LoginEvent event : drained) {
+            int producer = Integer.parseInt(event.action().substring(1));
+            assertTrue(event.tokenLength() > last[producer], event.toString());
+            last[producer] = event.tokenLength();
+            assertTrue(seen.add(event.action() + ":" + event.url()));
+        }
+    }
+
+    private static LoginEvent event(int i) {
+        return new LoginEvent("action-" + i, null, i, Instant.EPOCH);
+    }
+}
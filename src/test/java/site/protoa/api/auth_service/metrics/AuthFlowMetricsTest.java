@@ -0,0 +1,36 @@
+package site.protoa.api.auth_service.metrics;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * AuthFlowMetrics: 같은 이름/태그는 같은 Timer에, 다른 태그는 별도 Timer에 기록되는지 확인
+ */
+class AuthFlowMetricsTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AuthFlowMetrics authFlowMetrics = new AuthFlowMetrics(meterRegistry);
+
+    @Test
+    void recordsReuseTimerPerTagSet() {
+        long startNanos = System.nanoTime();
+        authFlowMetrics.recordLogin("kakao", AuthFlowMetrics.EXCHANGE, AuthFlowMetrics.SUCCESS, startNanos);
+        authFlowMetrics.recordLogin("kakao", AuthFlowMetrics.EXCHANGE, AuthFlowMetrics.SUCCESS, startNanos);
+        authFlowMetrics.recordLogin("naver", AuthFlowMetrics.EXCHANGE, AuthFlowMetrics.SUCCESS, startNanos);
+        authFlowMetrics.recordRefresh(AuthFlowMetrics.EXCHANGE, AuthFlowMetrics.SUCCESS, startNanos);
+
+        assertEquals(2, loginTimer("kakao").count());
+        assertEquals(1, loginTimer("naver").count());
+        assertEquals(1, meterRegistry.get("auth.refresh.stage").tag("stage", AuthFlowMetrics.EXCHANGE).timer().count());
+        assertEquals(2, meterRegistry.get("auth.login.stage").timers().size());
+    }
+
+    private Timer loginTimer(String provider) {
+        return meterRegistry.get("auth.login.stage")
+                .tags("provider", provider, "stage", AuthFlowMetrics.EXCHANGE, "outcome", AuthFlowMetrics.SUCCESS)
+                .timer();
+    }
+}
@@ -0,0 +1,37 @@
+package site.protoa.api.auth_service.naver;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import site.protoa.api.auth_service.naver.dto.NaverTokenResponse;
+import site.protoa.api.auth_service.oauth.ProviderFailurePredicate;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * state 없는 네이버 콜백: 파이프라인 구성 중 예외 대신 실패하는 Mono를 돌려주는지 확인
+ */
+class NaverServiceTest {
+
+    private final NaverService naverService = new NaverService(WebClient.create());
+
+    @Test
+    void missingStateFailsInsideMono() {
+        Mono<NaverTokenResponse> exchange = naverService.exchangeCode("code", null);
+
+        assertThrows(IllegalArgumentException.class, exchange::block);
+    }
+
+    @Test
+    void blankStateFailsInsideMono() {
+        Mono<NaverTokenResponse> exchange = naverService.exchangeCode("code", " ");
+
+        assertThrows(IllegalArgumentException.class, exchange::block);
+    }
+
+    @Test
+    void missingStateIsNotCountedAsProviderFailure() {
+        assertFalse(new ProviderFailurePredicate().test(new IllegalArgumentException("state 값이 필요합니다.")));
+    }
+}
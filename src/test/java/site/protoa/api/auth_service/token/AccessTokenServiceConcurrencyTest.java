@@ -0,0 +1,180 @@
+package site.protoa.api.auth_service.token;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import site.protoa.api.auth_service.jwt.JwtProperties;
+import site.protoa.api.auth_service.jwt.TokenDigest;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 동시 로그인/로그아웃/회전 중에도 역방향 인덱스가 세션별 현재 토큰과 정확히 일치하는지 확인
+ * (Docker가 없으면 건너뜀)
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class AccessTokenServiceConcurrencyTest {
+
+    private static final int SESSIONS = 4;
+    private static final int THREADS = 16;
+    private static final int OPERATIONS = 200;
+
+    @Container
+    private static final GenericContainer<?> REDIS = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+
+    private LettuceConnectionFactory connectionFactory;
+    private RedisTemplate<String, String> redisTemplate;
+    private AccessTokenService accessTokenService;
+    private RefreshTokenCache refreshTokenCache;
+
+    @BeforeEach
+    void setUp() {
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(REDIS.getHost(), REDIS.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.setDefaultSerializer(new StringRedisSerializer());
+        redisTemplate.afterPropertiesSet();
+        redisTemplate.getConnectionFactory().getConnection().serverCommands().flushAll();
+
+        accessTokenService = new AccessTokenService(redisTemplate, new JwtProperties(),
+                mock(UserRevocationRegistry.class), mock(TokenRevocationStore.class),
+                mock(TokenInvalidationBus.class));
+        refreshTokenCache = new RefreshTokenCache(redisTemplate);
+        ReflectionTestUtils.setField(refreshTokenCache, "enabled", true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        connectionFactory.destroy();
+    }
+
+    @Test
+    void accessTokenOwnerIndexMatchesCurrentTokens() throws Exception {
+        runConcurrently(() -> {
+            String sessionId = "session-" + ThreadLocalRandom.current().nextInt(SESSIONS);
+            if (ThreadLocalRandom.current().nextInt(4) == 0) {
+                accessTokenService.deleteToken("user-1", sessionId);
+            } else {
+                accessTokenService.saveToken("user-1", sessionId, UUID.randomUUID().toString(), 600);
+            }
+        });
+
+        Set<String> expected = new HashSet<>();
+        for (int i = 0; i < SESSIONS; i++) {
+            String token = accessTokenService.getToken("user-1", "session-" + i);
+            String digest = redisTemplate.opsForValue().get("access_token_digest:user-1:session-" + i);
+            assertEquals(token != null ? TokenDigest.sha256Hex(token) : null, digest);
+            if (digest != null) {
+                expected.add("access_token_owner:" + digest);
+                assertEquals("user-1", accessTokenService.getUserIdByToken(token));
+            }
+        }
+        assertEquals(expected, redisTemplate.keys("access_token_owner:*"));
+    }
+
+    @Test
+    void refreshTokenIndexMatchesCurrentTokens() throws Exception {
+        runConcurrently(() -> {
+            String sessionId = "session-" + ThreadLocalRandom.current().nextInt(SESSIONS);
+            String digest = TokenDigest.sha256Hex(UUID.randomUUID().toString());
+            switch (ThreadLocalRandom.current().nextInt(4)) {
+                case 0 -> refreshTokenCache.evictSession("user-1", sessionId);
+                case 1 -> {
+                    String current = redisTemplate.opsForValue().get("refresh_token_session:user-1:" + sessionId);
+                    if (current != null) {
+                        refreshTokenCache.evict(current);
+                    }
+                }
+                default -> refreshTokenCache.put("user-1", sessionId, digest, 600, null);
+            }
+        });
+
+        Set<String> expected = new HashSet<>();
+        for (int i = 0; i < SESSIONS; i++) {
+            String digest = redisTemplate.opsForValue().get("refresh_token_session:user-1:session-" + i);
+            if (digest != null) {
+                expected.add("refresh_token:" + digest);
+                assertEquals("user-1:session-" + i, redisTemplate.opsForValue().get("refresh_token:" + digest));
+            }
+        }
+        assertEquals(expected, redisTemplate.keys("refresh_token:*"));
+    }
+
+    @Test
+    void onlyOneConcurrentRotationWins() throws Exception {
+        accessTokenService.saveToken("user-1", "session-0", "access-0", 600);
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                String newToken = "access-" + (i + 1);
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return accessTokenService.rotateToken("user-1", "session-0", "refresh-0",
+                            "access-0", newToken, 600, 600);
+                }));
+            }
+            start.countDown();
+
+            int winners = 0;
+            for (Future<Boolean> result : results) {
+                winners += result.get() ? 1 : 0;
+            }
+            assertEquals(1, winners);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        String token = accessTokenService.getToken("user-1", "session-0");
+        assertEquals(Set.of("access_token_owner:" + TokenDigest.sha256Hex(token)),
+                redisTemplate.keys("access_token_owner:*"));
+    }
+
+    private static void runConcurrently(Runnable operation) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<Void>> results = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                results.add(executor.submit((Callable<Void>) () -> {
+                    start.await();
+                    for (int j = 0; j < OPERATIONS; j++) {
+                        operation.run();
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<Void> result : results) {
+                result.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package site.protoa.api.auth_service.token;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import site.protoa.api.auth_service.jwt.JwtProperties;
+import site.protoa.api.auth_service.jwt.TokenDigest;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockingDetails;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Access Token 저장 시 폐기 시점 전파 조건 확인
+ */
+class AccessTokenServiceTest {
+
+    private RedisTemplate<String, String> redisTemplate;
+    private TokenInvalidationBus tokenInvalidationBus;
+    private AccessTokenService accessTokenService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redisTemplate = mock(RedisTemplate.class);
+        tokenInvalidationBus = mock(TokenInvalidationBus.class);
+        accessTokenService = new AccessTokenService(redisTemplate, new JwtProperties(),
+                mock(UserRevocationRegistry.class), mock(TokenRevocationStore.class), tokenInvalidationBus);
+    }
+
+    @Test
+    void newSessionDoesNotPublishCutoff() {
+        doReturn("SAVED").when(redisTemplate).execute(ArgumentMatchers.<RedisScript<String>>any(), anyList(), any(Object[].class));
+
+        accessTokenService.saveToken("user-1", "session-1", "access-1", 600);
+
+        verify(tokenInvalidationBus, never()).publish(any());
+    }
+
+    @Test
+    void replacingSessionTokenPublishesCutoff() {
+        doReturn("REPLACED").when(redisTemplate).execute(ArgumentMatchers.<RedisScript<String>>any(), anyList(), any(Object[].class));
+
+        accessTokenService.saveToken("user-1", "session-1", "access-2", 600);
+
+        verify(tokenInvalidationBus).publish(any());
+    }
+
+    @Test
+    void retriesWithCurrentDigestOnMismatch() {
+        doReturn("MISMATCH:abc", "REPLACED").when(redisTemplate)
+                .execute(ArgumentMatchers.<RedisScript<String>>any(), anyList(), any(Object[].class));
+
+        accessTokenService.saveToken("user-1", "session-1", "access-2", 600);
+
+        verify(tokenInvalidationBus).publish(any());
+        assertEquals(2, mockingDetails(redisTemplate).getInvocations().size());
+    }
+
+    @Test
+    void undoRotationRestoresPreviousTokenOnlyIfNewTokenIsStillCurrent() {
+        String previousDigest = TokenDigest.sha256Hex("access-1");
+        String newDigest = TokenDigest.sha256Hex("access-2");
+
+        accessTokenService.undoRotation("user-1", "session-1", "refresh-1", "access-1", 300, "access-2");
+
+        // 예상 현재 다이제스트 = 새 토큰, 교체 후 새 토큰의 역방향 키 삭제
+        verify(redisTemplate).execute(ArgumentMatchers.<RedisScript<String>>any(),
+                eq(List.of("access_token:user-1:session-1", "access_token_digest:user-1:session-1",
+                        "access_token_owner:" + previousDigest, "access_token_owner:" + newDigest)),
+                eq("access-1"), eq(previousDigest), eq("user-1"), eq("300"), eq(newDigest));
+        verify(redisTemplate).delete("refresh_rotation:" + TokenDigest.sha256Hex("refresh-1"));
+    }
+
+    @Test
+    void undoRotationWithoutPreviousTokenDeletesNewToken() {
+        String newDigest = TokenDigest.sha256Hex("access-2");
+
+        accessTokenService.undoRotation("user-1", "session-1", "refresh-1", null, 0, "access-2");
+
+        verify(redisTemplate).execute(ArgumentMatchers.<RedisScript<String>>any(),
+                eq(List.of("access_token:user-1:session-1", "access_token_digest:user-1:session-1",
+                        "access_token_owner:" + newDigest)),
+                eq(newDigest));
+    }
+}
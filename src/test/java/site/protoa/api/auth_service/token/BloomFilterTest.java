@@ -0,0 +1,88 @@
+package site.protoa.api.auth_service.token;
+
+import org.junit.jupiter.api.Test;
+import site.protoa.api.auth_service.jwt.TokenDigest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Bloom filter: 거짓 음성 없음 / 설정 용량에서 오탐률이 허용 범위 안인지 확인
+ * (TokenRevocationStore 기본 설정 10000개, 1% 기준)
+ */
+class BloomFilterTest {
+
+    private static final int CAPACITY = 10_000;
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    @Test
+    void noFalseNegatives() {
+        BloomFilter filter = new BloomFilter(CAPACITY, FALSE_POSITIVE_RATE);
+        List<String> digests = digests("member-", CAPACITY);
+        digests.forEach(filter::put);
+
+        for (String digest : digests) {
+            assertTrue(filter.mightContain(digest), digest);
+        }
+    }
+
+    @Test
+    void noFalseNegativesUnderConcurrentPuts() throws Exception {
+        BloomFilter filter = new BloomFilter(CAPACITY, FALSE_POSITIVE_RATE);
+        List<String> digests = digests("member-", CAPACITY);
+
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> results = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                int offset = t;
+                results.add(executor.submit(() -> {
+                    for (int i = offset; i < digests.size(); i += threads) {
+                        filter.put(digests.get(i));
+                    }
+                }));
+            }
+            for (Future<?> result : results) {
+                result.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        for (String digest : digests) {
+            assertTrue(filter.mightContain(digest), digest);
+        }
+    }
+
+    @Test
+    void falsePositiveRateWithinBoundAtCapacity() {
+        BloomFilter filter = new BloomFilter(CAPACITY, FALSE_POSITIVE_RATE);
+        digests("member-", CAPACITY).forEach(filter::put);
+
+        int probes = 100_000;
+        int falsePositives = 0;
+        for (String digest : digests("absent-", probes)) {
+            if (filter.mightContain(digest)) {
+                falsePositives++;
+            }
+        }
+
+        // 100000번 조회 시 1%의 표준편차는 약 0.03%p이므로 1.5배면 충분한 여유
+        double observed = (double) falsePositives / probes;
+        assertTrue(observed <= FALSE_POSITIVE_RATE * 1.5, "false positive rate " + observed);
+    }
+
+    private static List<String> digests(String prefix, int count) {
+        List<String> digests = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            digests.add(TokenDigest.sha256Hex(prefix + i));
+        }
+        return digests;
+    }
+}
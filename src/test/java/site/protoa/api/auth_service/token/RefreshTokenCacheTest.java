@@ -0,0 +1,85 @@
+package site.protoa.api.auth_service.token;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * RefreshTokenCache: 제거 오류는 전파, 저장 오류는 삼킴
+ */
+class RefreshTokenCacheTest {
+
+    private RedisTemplate<String, String> redisTemplate;
+    private RefreshTokenCache refreshTokenCache;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redisTemplate = mock(RedisTemplate.class);
+        refreshTokenCache = new RefreshTokenCache(redisTemplate);
+        ReflectionTestUtils.setField(refreshTokenCache, "enabled", true);
+    }
+
+    @Test
+    void evictPropagatesRedisFailure() {
+        redisDown();
+        assertThrows(RedisConnectionFailureException.class, () -> refreshTokenCache.evict("digest"));
+    }
+
+    @Test
+    void evictSessionPropagatesRedisFailure() {
+        redisDown();
+        assertThrows(RedisConnectionFailureException.class,
+                () -> refreshTokenCache.evictSession("user-1", "session-1"));
+    }
+
+    @Test
+    void evictFailsWhenValueKeepsChanging() {
+        doReturn("MISMATCH:other").when(redisTemplate).execute(ArgumentMatchers.<RedisScript<String>>any(), anyList(), any(Object[].class));
+        assertThrows(IllegalStateException.class, () -> refreshTokenCache.evict("digest"));
+    }
+
+    @Test
+    void putSwallowsRedisFailure() {
+        redisDown();
+        assertDoesNotThrow(() -> refreshTokenCache.put("user-1", "session-1", "digest", 600, null));
+    }
+
+    @Test
+    void backfillWritesWholePageInOneCall() {
+        refreshTokenCache.backfill(List.of(
+                new RefreshTokenCache.Entry("user-1", "session-1", "digest-1", 600),
+                new RefreshTokenCache.Entry("user-2", "session-1", "digest-2", 0), // 만료: 건너뜀
+                new RefreshTokenCache.Entry("user-3", "session-2", "digest-3", 300)));
+
+        verify(redisTemplate).execute(ArgumentMatchers.<RedisScript<Long>>any(),
+                eq(List.of("refresh_token_session:user-1:session-1", "refresh_token:digest-1",
+                        "refresh_token_session:user-3:session-2", "refresh_token:digest-3")),
+                eq("digest-1"), eq("user-1:session-1"), eq("600"),
+                eq("digest-3"), eq("user-3:session-2"), eq("300"));
+        verify(redisTemplate, times(1)).execute(ArgumentMatchers.<RedisScript<Long>>any(), anyList(),
+                any(Object[].class));
+    }
+
+    private void redisDown() {
+        doThrow(new RedisConnectionFailureException("redis down")).when(redisTemplate)
+                .execute(ArgumentMatchers.<RedisScript<String>>any(), anyList(), any(Object[].class));
+    }
+}
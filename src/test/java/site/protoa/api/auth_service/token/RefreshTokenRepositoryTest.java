@@ -0,0 +1,76 @@
+package site.protoa.api.auth_service.token;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 로그인 INSERT / 갱신 조건부 UPDATE를 실제 Postgres(Flyway 스키마)에서 확인 (Docker가 없으면 건너뜀)
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Testcontainers(disabledWithoutDocker = true)
+class RefreshTokenRepositoryTest {
+
+    @Container
+    @ServiceConnection
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Test
+    void rotateReplacesOnlyTheCurrentToken() {
+        LocalDateTime now = LocalDateTime.now();
+        refreshTokenRepository.insertSession("user-rotate", "session-1", hash('a'), now.plusDays(7), now);
+
+        assertEquals(1, refreshTokenRepository.rotateBySession("user-rotate", "session-1", hash('a'), hash('b'),
+                now.plusDays(7), now));
+        // 이미 회전된 토큰(재사용)은 0행
+        assertEquals(0, refreshTokenRepository.rotateBySession("user-rotate", "session-1", hash('a'), hash('c'),
+                now.plusDays(7), now));
+        assertTrue(refreshTokenRepository.findByTokenHashAndExpiresAtAfter(hash('b'), now).isPresent());
+    }
+
+    @Test
+    void rotateRejectsExpiredOrDeletedSession() {
+        LocalDateTime now = LocalDateTime.now();
+        refreshTokenRepository.insertSession("user-expired", "session-1", hash('d'), now.minusSeconds(1),
+                now.minusDays(7));
+        assertEquals(0, refreshTokenRepository.rotateBySession("user-expired", "session-1", hash('d'), hash('e'),
+                now.plusDays(7), now));
+
+        refreshTokenRepository.insertSession("user-deleted", "session-1", hash('f'), now.plusDays(7), now);
+        refreshTokenRepository.deleteByUserIdAndSessionId("user-deleted", "session-1");
+        assertEquals(0, refreshTokenRepository.rotateBySession("user-deleted", "session-1", hash('f'), hash('g'),
+                now.plusDays(7), now));
+    }
+
+    @Test
+    void insertRejectsExistingSession() {
+        LocalDateTime now = LocalDateTime.now();
+        refreshTokenRepository.insertSession("user-dup", "session-1", hash('h'), now.plusDays(7), now);
+
+        assertThrows(DataIntegrityViolationException.class, () -> refreshTokenRepository.insertSession(
+                "user-dup", "session-1", hash('i'), now.plusDays(7), now));
+    }
+
+    private static String hash(char c) {
+        return String.valueOf(c).repeat(64);
+    }
+}
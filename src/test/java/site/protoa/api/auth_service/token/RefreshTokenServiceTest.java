@@ -0,0 +1,97 @@
+package site.protoa.api.auth_service.token;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import site.protoa.api.auth_service.jwt.TokenDigest;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * RefreshTokenService: 캐시 제거 실패 시 fail-closed 동작 / 조건부 회전 확인
+ */
+class RefreshTokenServiceTest {
+
+    private RefreshTokenRepository refreshTokenRepository;
+    private RefreshTokenCache refreshTokenCache;
+    private RefreshTokenService refreshTokenService;
+
+    @BeforeEach
+    void setUp() {
+        refreshTokenRepository = mock(RefreshTokenRepository.class);
+        refreshTokenCache = mock(RefreshTokenCache.class);
+        refreshTokenService = new RefreshTokenService(refreshTokenRepository, refreshTokenCache);
+    }
+
+    @Test
+    void deleteTokenPropagatesEvictFailure() {
+        String digest = TokenDigest.sha256Hex("refresh-1");
+        doThrow(new IllegalStateException("redis down")).when(refreshTokenCache).evict(digest);
+
+        assertThrows(IllegalStateException.class, () -> refreshTokenService.deleteToken("refresh-1"));
+        verify(refreshTokenRepository, never()).deleteByTokenHash(anyString());
+    }
+
+    @Test
+    void deleteSessionPropagatesEvictFailure() {
+        doThrow(new IllegalStateException("redis down")).when(refreshTokenCache).evictSession("user-1", "session-1");
+
+        assertThrows(IllegalStateException.class, () -> refreshTokenService.deleteSession("user-1", "session-1"));
+        verify(refreshTokenRepository, never()).deleteByUserIdAndSessionId(anyString(), anyString());
+    }
+
+    @Test
+    void cacheMissFallsBackToDatabase() {
+        String digest = TokenDigest.sha256Hex("refresh-1");
+        when(refreshTokenCache.contains(digest)).thenReturn(false);
+        when(refreshTokenRepository.findByTokenHashAndExpiresAtAfter(eq(digest), any(LocalDateTime.class)))
+                .thenReturn(Optional.empty());
+
+        assertFalse(refreshTokenService.existsToken("refresh-1"));
+        verify(refreshTokenRepository).findByTokenHashAndExpiresAtAfter(eq(digest), any(LocalDateTime.class));
+    }
+
+    @Test
+    void rotateTokenUpdatesCacheWithPreviousDigest() {
+        String previousDigest = TokenDigest.sha256Hex("refresh-1");
+        String digest = TokenDigest.sha256Hex("refresh-2");
+        when(refreshTokenRepository.rotateBySession(eq("user-1"), eq("session-1"), eq(previousDigest), eq(digest),
+                any(LocalDateTime.class), any(LocalDateTime.class))).thenReturn(1);
+
+        assertTrue(refreshTokenService.rotateToken("user-1", "session-1", "refresh-1", "refresh-2", 600));
+        verify(refreshTokenCache).put("user-1", "session-1", digest, 600, previousDigest);
+    }
+
+    @Test
+    void rotateTokenRejectsTokenNoLongerInDatabase() {
+        when(refreshTokenRepository.rotateBySession(anyString(), anyString(), anyString(), anyString(),
+                any(LocalDateTime.class), any(LocalDateTime.class))).thenReturn(0);
+
+        assertFalse(refreshTokenService.rotateToken("user-1", "session-1", "refresh-1", "refresh-2", 600));
+        verify(refreshTokenCache, never()).put(anyString(), anyString(), anyString(), anyLong(), any());
+    }
+
+    @Test
+    void saveTokenInsertsNewSession() {
+        String digest = TokenDigest.sha256Hex("refresh-1");
+
+        refreshTokenService.saveToken("user-1", "session-1", "refresh-1", 600);
+
+        verify(refreshTokenRepository).insertSession(eq("user-1"), eq("session-1"), eq(digest),
+                any(LocalDateTime.class), any(LocalDateTime.class));
+        verify(refreshTokenCache).put("user-1", "session-1", digest, 600, null);
+    }
+}
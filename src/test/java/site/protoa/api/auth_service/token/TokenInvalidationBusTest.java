@@ -0,0 +1,136 @@
+package site.protoa.api.auth_service.token;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import site.protoa.api.auth_service.jwt.JwtProperties;
+import site.protoa.api.auth_service.jwt.TokenDigest;
+import site.protoa.api.auth_service.jwt.VerifiedTokenCache;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 발행 번호 기반 따라잡기 확인 (Docker가 없으면 건너뜀)
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class TokenInvalidationBusTest {
+
+    @Container
+    private static final GenericContainer<?> REDIS = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+
+    private LettuceConnectionFactory connectionFactory;
+    private RedisTemplate<String, String> redisTemplate;
+    private JwtProperties jwtProperties;
+
+    @BeforeEach
+    void setUp() {
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(REDIS.getHost(), REDIS.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.setDefaultSerializer(new StringRedisSerializer());
+        redisTemplate.afterPropertiesSet();
+        flushAll();
+        jwtProperties = new JwtProperties();
+    }
+
+    @AfterEach
+    void tearDown() {
+        connectionFactory.destroy();
+    }
+
+    @Test
+    void catchUpAppliesEventsPublishedByOtherNode() {
+        TokenRevocationStore store = new TokenRevocationStore(10_000, 0.01);
+        TokenInvalidationBus publisher = bus(new TokenRevocationStore(10_000, 0.01));
+        TokenInvalidationBus receiver = bus(store);
+
+        String digest = TokenDigest.sha256Hex("token-1");
+        publisher.publish(revoke(digest));
+        assertFalse(store.isRevoked(digest));
+
+        receiver.catchUp();
+        assertTrue(store.isRevoked(digest));
+    }
+
+    @Test
+    void resubscribeCatchesUpWithoutWaitingForPoll() {
+        TokenRevocationStore store = new TokenRevocationStore(10_000, 0.01);
+        TokenInvalidationBus publisher = bus(new TokenRevocationStore(10_000, 0.01));
+        TokenInvalidationBus receiver = bus(store);
+
+        // 구독이 끊긴 동안 발행된 이벤트
+        String digest = TokenDigest.sha256Hex("while-disconnected");
+        publisher.publish(revoke(digest));
+
+        receiver.onChannelSubscribed("auth:invalidation".getBytes(StandardCharsets.UTF_8), 1);
+        assertTrue(store.isRevoked(digest));
+    }
+
+    @Test
+    void catchUpRestartsAfterRedisFlush() {
+        TokenRevocationStore store = new TokenRevocationStore(10_000, 0.01);
+        TokenInvalidationBus publisher = bus(new TokenRevocationStore(10_000, 0.01));
+        TokenInvalidationBus receiver = bus(store);
+
+        for (int i = 0; i < 3; i++) {
+            publisher.publish(revoke(TokenDigest.sha256Hex("before-" + i)));
+        }
+        receiver.catchUp();
+
+        flushAll();
+        String digest = TokenDigest.sha256Hex("after-flush");
+        publisher.publish(revoke(digest));
+
+        receiver.catchUp();
+        assertTrue(store.isRevoked(digest));
+    }
+
+    @Test
+    void publishTrimsEventsOlderThanAccessTokenLifetime() throws InterruptedException {
+        jwtProperties.setExpiration(50L);
+        TokenInvalidationBus publisher = bus(new TokenRevocationStore(10_000, 0.01));
+
+        publisher.publish(revoke(TokenDigest.sha256Hex("old")));
+        Thread.sleep(100L);
+        publisher.publish(revoke(TokenDigest.sha256Hex("new")));
+
+        assertEquals(1L, redisTemplate.opsForZSet().size("auth:invalidation:log"));
+        assertEquals(1L, redisTemplate.opsForZSet().size("auth:invalidation:time"));
+    }
+
+    private TokenInvalidationBus bus(TokenRevocationStore store) {
+        return new TokenInvalidationBus(redisTemplate, mock(RedisMessageListenerContainer.class), new ObjectMapper(),
+                jwtProperties, store, new UserRevocationRegistry(jwtProperties),
+                new VerifiedTokenCache(jwtProperties, new SimpleMeterRegistry()));
+    }
+
+    private static TokenInvalidationEvent revoke(String digest) {
+        return TokenInvalidationEvent.revoke("user-1", List.of(
+                new TokenInvalidationEvent.RevokedToken(digest, System.currentTimeMillis() + 60_000L)));
+    }
+
+    private void flushAll() {
+        redisTemplate.execute(connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        }, true);
+    }
+}